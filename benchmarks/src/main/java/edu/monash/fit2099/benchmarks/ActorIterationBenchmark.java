@@ -0,0 +1,56 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full pass of the turn-order iterator over every Actor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActorIterationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int population;
+
+    private ActorLocationsIterator actorLocations;
+
+    @Setup
+    public void placeActors() {
+        GameMap map = SyntheticValley.map("200x200");
+        actorLocations = new ActorLocationsIterator();
+        int placed = 0;
+        for (int y = 0; placed < population; y++) {
+            for (int x = 0; x < 200 && placed < population; x++) {
+                actorLocations.add(new SyntheticValley.Wanderer(), map.at(x, y));
+                placed++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Actor actor : actorLocations) {
+            blackhole.consume(actor);
+        }
+    }
+}
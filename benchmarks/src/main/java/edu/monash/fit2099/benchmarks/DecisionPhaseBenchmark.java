@@ -0,0 +1,73 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole turns with the Actors planning their turns on a pool of threads. A pool of
+ * 0 threads means every Actor deciding in its own turn, as {@link TurnBenchmark} does.
+ * <p>
+ * One operation is one turn, so the score is ns/turn. The world is rebuilt before every
+ * iteration, as in {@link TurnBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionPhaseBenchmark {
+
+    @Param({"200x200"})
+    public String mapSize;
+
+    @Param({"1000", "10000"})
+    public int population;
+
+    @Param({SyntheticValley.WANDERERS, SyntheticValley.VALLEY})
+    public String species;
+
+    @Param({"0", "2", "4", "8"})
+    public int threads;
+
+    private HeadlessWorld world;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void startPool() {
+        if (threads > 0)
+            pool = new ForkJoinPool(threads);
+    }
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        world = SyntheticValley.world(mapSize, population, species);
+        world.setDecisionPool(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public boolean turn() {
+        return world.step();
+    }
+}
@@ -0,0 +1,83 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Menu;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.actors.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and showing the player's menu, answered by a scripted keypress.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuBenchmark {
+
+    @Param({"10", "26", "100"})
+    public int actionCount;
+
+    private ActionList actions;
+    private Actor player;
+    private Display display;
+
+    @Setup
+    public void buildActions() {
+        actions = new ActionList();
+        for (int i = 0; i < actionCount; i++) {
+            actions.add(new NamedAction("Option " + i));
+        }
+        player = new Player("Farmer", '@', 100);
+        display = new NullDisplay() {
+            @Override
+            public char readChar() {
+                return 'a';
+            }
+        };
+    }
+
+    @Benchmark
+    public Action showMenu() {
+        return new Menu(actions).showMenu(player, display);
+    }
+
+    /**
+     * An Action without a hotkey, as most menu entries are.
+     */
+    private static final class NamedAction extends Action {
+        private final String name;
+
+        NamedAction(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String execute(Actor actor, GameMap map) {
+            return name;
+        }
+
+        @Override
+        public String menuDescription(Actor actor) {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ticking every map of a World with several maps, one after another and on a
+ * pool of threads. A pool of 0 threads means ticking the maps one after another.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiMapTickBenchmark {
+
+    @Param({"200x200"})
+    public String mapSize;
+
+    @Param({"4", "16"})
+    public int maps;
+
+    @Param({"1000"})
+    public int population;
+
+    @Param({"0", "4"})
+    public int threads;
+
+    private TickingWorld world;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void buildWorld() {
+        world = new TickingWorld();
+        for (int i = 0; i < maps; i++) {
+            GameMap map = SyntheticValley.map(mapSize);
+            world.addGameMap(map);
+            SyntheticValley.populate(map, population, SyntheticValley.WANDERERS);
+        }
+        if (threads > 0) {
+            pool = new ForkJoinPool(threads);
+            world.setTickPool(pool);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public void tick() {
+        world.tick();
+    }
+
+    /**
+     * A World whose maps can be ticked without giving the Actors their turns.
+     */
+    static final class TickingWorld extends World {
+
+        TickingWorld() {
+            super(new NullDisplay());
+        }
+
+        void tick() {
+            tickMaps();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+import edu.monash.fit2099.engine.positions.Location;
+import game.actors.Player;
+import game.actors.creatures.Creature;
+import game.actors.creatures.GoldenBeetle;
+import game.actors.creatures.OmenSheep;
+import game.actors.creatures.SpiritGoat;
+import game.behaviours.WanderBehaviour;
+import game.grounds.Blight;
+import game.grounds.Floor;
+import game.grounds.Soil;
+import game.grounds.Wall;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds repeatable synthetic worlds for the benchmarks.
+ * <p>
+ * Terrain is mostly Soil, with patches of Blight and broken walls laid out by a fixed
+ * pattern, so every run of a benchmark sees exactly the same map.
+ */
+final class SyntheticValley {
+
+    /**
+     * Creatures that do nothing but wander. Their population stays fixed, which keeps
+     * the cost of a turn steady over a long measurement.
+     */
+    static final String WANDERERS = "wanderers";
+
+    /**
+     * A mix of Spirit Goats, Omen Sheep and Golden Beetles, which rot, breed and lay
+     * eggs exactly as they do in the game.
+     */
+    static final String VALLEY = "valley";
+
+    private SyntheticValley() {
+    }
+
+    /**
+     * Build a headless World containing a single synthetic map, a player who never acts and
+     * the requested creatures.
+     *
+     * @param size       the map size, written as WIDTHxHEIGHT, e.g. 40x15
+     * @param population the number of creatures to place
+     * @param species    {@link #WANDERERS} or {@link #VALLEY}
+     * @return the World, ready to step
+     */
+    static HeadlessWorld world(String size, int population, String species) {
+        HeadlessWorld world = new HeadlessWorld(new NullDisplay(),
+                (player, actions, lastAction, map) -> DoNothingAction.INSTANCE, Long.MAX_VALUE);
+        GameMap map = map(size);
+        world.addGameMap(map);
+        world.addPlayer(new Player("Farmer", '@', Integer.MAX_VALUE / 2), map.at(0, 0));
+        populate(map, population, species);
+        return world;
+    }
+
+    /**
+     * Build a synthetic map.
+     *
+     * @param size the map size, written as WIDTHxHEIGHT
+     * @return the map
+     * @throws IllegalArgumentException if size is not of the form WIDTHxHEIGHT
+     */
+    static GameMap map(String size) {
+        String[] dimensions = size.split("x");
+        if (dimensions.length != 2)
+            throw new IllegalArgumentException("Map size must look like 40x15: " + size);
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+
+        List<String> lines = new ArrayList<>(height);
+        for (int y = 0; y < height; y++) {
+            StringBuilder line = new StringBuilder(width);
+            for (int x = 0; x < width; x++) {
+                line.append(terrainAt(x, y));
+            }
+            lines.add(line.toString());
+        }
+        return new GameMap("Synthetic Valley " + size,
+                FancyGroundFactory.withSharedGrounds(new Blight(), new Wall(), new Floor(), new Soil()), lines);
+    }
+
+    /**
+     * Place creatures on free, enterable Locations spread evenly over the map.
+     *
+     * @param map        the map to populate
+     * @param population the number of creatures to place
+     * @param species    {@link #WANDERERS} or {@link #VALLEY}
+     */
+    static void populate(GameMap map, int population, String species) {
+        int width = map.getXRange().max() + 1;
+        int height = map.getYRange().max() + 1;
+        int cells = width * height;
+        // A stride coprime with most map areas spreads the creatures out
+        int stride = 7919;
+        int placed = 0;
+        for (int i = 1; placed < population && i < cells; i++) {
+            int index = (int) ((long) i * stride % cells);
+            Location location = map.at(index % width, index / width);
+            Actor creature = creature(species, placed);
+            if (location.canActorEnter(creature)) {
+                location.addActor(creature);
+                placed++;
+            }
+        }
+    }
+
+    private static Actor creature(String species, int index) {
+        if (WANDERERS.equals(species))
+            return new Wanderer();
+        if (!VALLEY.equals(species))
+            throw new IllegalArgumentException("Unknown species: " + species);
+
+        switch (index % 3) {
+            case 0:
+                return new SpiritGoat();
+            case 1:
+                return new OmenSheep();
+            default:
+                return new GoldenBeetle();
+        }
+    }
+
+    private static char terrainAt(int x, int y) {
+        if (x % 17 == 8 && y % 9 != 4)
+            return '#';
+        if ((x * 31 + y * 17) % 23 == 0)
+            return 'x';
+        return '.';
+    }
+
+    /**
+     * A creature that only wanders.
+     */
+    static final class Wanderer extends Creature {
+
+        Wanderer() {
+            super("Wanderer", 'w', 50);
+        }
+
+        @Override
+        protected void initializeBehaviours() {
+            addBehaviour(999, new WanderBehaviour());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GameMap#tick()} on its own, with Actors in place but not taking turns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickBenchmark {
+
+    @Param({"40x15", "200x200", "2000x2000"})
+    public String mapSize;
+
+    @Param({"0", "100"})
+    public int population;
+
+    private GameMap map;
+
+    @Setup(Level.Trial)
+    public void buildMap() {
+        map = SyntheticValley.map(mapSize);
+        new World(new NullDisplay()).addGameMap(map);
+        SyntheticValley.populate(map, population, SyntheticValley.WANDERERS);
+    }
+
+    @Benchmark
+    public void tick() {
+        map.tick();
+    }
+}
@@ -0,0 +1,57 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole turns of the game loop: ticking the map and giving every Actor its turn.
+ * <p>
+ * One operation is one turn, so the score is ns/turn. Run with {@code -prof gc} to get
+ * allocations per turn ({@code gc.alloc.rate.norm}) and GC pressure.
+ * <p>
+ * The world is rebuilt before every iteration, as Valley creatures breed and rot and
+ * would otherwise drift between iterations. The 2000x2000 map needs a large heap, e.g.
+ * {@code -jvmArgs -Xmx8g}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurnBenchmark {
+
+    @Param({"40x15", "200x200"})
+    public String mapSize;
+
+    @Param({"10", "100", "1000"})
+    public int population;
+
+    @Param({SyntheticValley.WANDERERS, SyntheticValley.VALLEY})
+    public String species;
+
+    private HeadlessWorld world;
+
+    @Setup(Level.Iteration)
+    public void buildWorld() {
+        world = SyntheticValley.world(mapSize, population, species);
+    }
+
+    @Benchmark
+    public boolean turn() {
+        return world.step();
+    }
+}
@@ -1,6 +1,9 @@
 package edu.monash.fit2099.engine;
 
 import edu.monash.fit2099.engine.capabilities.CapabilitySet;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 import java.util.List;
 
@@ -11,7 +14,7 @@ import java.util.List;
  * Example #2: an actor that has the Ability.ENTER_DOORS capability can enter a door.
  * Note that the capabilities are not limited to Status or Ability. It can be of any enumeration type.
  */
-public abstract class GameEntity {
+public abstract class GameEntity implements Snapshottable {
 
     /**
      * Current capabilities/statuses of this entity
@@ -65,4 +68,56 @@ public abstract class GameEntity {
     public <T extends Enum<?>> List<T> findCapabilitiesByType(Class<T> enumType){
         return capabilitySet.findCapabilitiesByType(enumType);
     }
+
+    /**
+     * Add every capability of this entity to another set, e.g. to combine the capabilities of several items.
+     * @param capabilities the set to add to
+     */
+    public void addCapabilitiesTo(CapabilitySet capabilities) {
+        capabilities.addAll(capabilitySet);
+    }
+
+    /**
+     * Have a listener told whenever this entity's capabilities change, e.g. so something that
+     * combines the capabilities of several items knows when to combine them again.
+     * @param listener the listener to add
+     */
+    public void addCapabilityListener(Runnable listener) {
+        capabilitySet.addListener(listener);
+    }
+
+    /**
+     * Stop telling a listener about changes to this entity's capabilities.
+     * @param listener the listener to remove
+     */
+    public void removeCapabilityListener(Runnable listener) {
+        capabilitySet.removeListener(listener);
+    }
+
+    /**
+     * Write the capabilities of this entity to a snapshot.
+     * Subclasses that add state of their own should override this and call it first.
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        List<Enum<?>> capabilities = capabilitySet.capabilitiesList();
+        out.writeCount(capabilities.size());
+        for (Enum<?> capability : capabilities) {
+            out.writeEnum(capability);
+        }
+    }
+
+    /**
+     * Replace the capabilities of this entity with those read from a snapshot.
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        capabilitySet.clear();
+        int count = in.readCount();
+        for (int i = 0; i < count; i++) {
+            capabilitySet.addCapability(in.readEnum());
+        }
+    }
 }
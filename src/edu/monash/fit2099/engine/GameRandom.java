@@ -0,0 +1,95 @@
+package edu.monash.fit2099.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The single source of randomness for the game.
+ * <p>
+ * Every Actor and GameMap splits its own random stream from one seeded root when it is
+ * created. Given the same seed and the same inputs, a game therefore plays out the same
+ * way every time, and no Random objects are created while it runs. Because each stream
+ * belongs to one owner, owners can draw from their streams in parallel without affecting
+ * each other's results.
+ * <p>
+ * Set the seed before creating any maps or Actors.
+ */
+public final class GameRandom {
+
+    private static long seed = System.nanoTime();
+    private static SplittableRandom root = new SplittableRandom(seed);
+    /**
+     * Streams split on this thread come from here instead of the root while it is set.
+     */
+    private static final ThreadLocal<SplittableRandom> localRoot = new ThreadLocal<>();
+
+    private GameRandom() {
+    }
+
+    /**
+     * Restart the root stream from the given seed.
+     *
+     * @param newSeed the seed to use
+     */
+    public static synchronized void setSeed(long newSeed) {
+        seed = newSeed;
+        root = new SplittableRandom(newSeed);
+    }
+
+    /**
+     * @return the seed the root stream was last started from
+     */
+    public static synchronized long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Create a new, independent random stream for an owner such as an Actor or a GameMap.
+     *
+     * @return a stream determined by the seed and by how many streams were split before it
+     */
+    public static RandomGenerator split() {
+        SplittableRandom local = localRoot.get();
+        if (local != null)
+            return local.split();
+        synchronized (GameRandom.class) {
+            return root.split();
+        }
+    }
+
+    /**
+     * Run a task with every stream it splits on this thread coming from the given source
+     * rather than the shared root. Work running in parallel, such as the ticks of several
+     * maps, then creates the same streams whatever order the threads happen to run in.
+     *
+     * @param source the stream to split from, owned by the task
+     * @param task   the task to run
+     */
+    public static void splittingFrom(SplittableRandom source, Runnable task) {
+        SplittableRandom previous = localRoot.get();
+        localRoot.set(source);
+        try {
+            task.run();
+        } finally {
+            if (previous == null)
+                localRoot.remove();
+            else
+                localRoot.set(previous);
+        }
+    }
+
+    /**
+     * Shuffle a list in place, drawing from the given stream.
+     *
+     * @param list   the list to shuffle
+     * @param random the stream to draw from
+     * @param <T>    the type of element in the list
+     */
+    public static <T> void shuffle(List<T> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
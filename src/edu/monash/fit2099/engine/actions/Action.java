@@ -42,4 +42,19 @@ public abstract class Action {
 	public Action getNextAction() {
 		return null;
 	}
+
+	/**
+	 * Check that this Action can still be done. An Action planned ahead of the Actor's turn, while
+	 * other Actors were planning too, is checked just before it is done, as the Actors that went
+	 * first may have got in the way. If it can no longer be done, the Actor does nothing instead.
+	 * By default, this returns true.
+	 *
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the Action can still be done
+	 * @see edu.monash.fit2099.engine.actors.Actor#planTurn(GameMap)
+	 */
+	public boolean isStillValid(Actor actor, GameMap map) {
+		return true;
+	}
 }
@@ -6,9 +6,15 @@ import edu.monash.fit2099.engine.positions.GameMap;
 /**
  * An Action that doesn't do anything.  
  * Use this to implement waiting or similar actions in game clients.
+ * It holds no state, so {@link #INSTANCE} can be used wherever one is needed.
  */
 public class DoNothingAction extends Action {
 
+	/**
+	 * A DoNothingAction shared by everyone, so doing nothing allocates nothing.
+	 */
+	public static final DoNothingAction INSTANCE = new DoNothingAction();
+
 	@Override
 	public String execute(Actor actor, GameMap map) {
 		return menuDescription(actor);
@@ -0,0 +1,110 @@
+package edu.monash.fit2099.engine.actions;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An ActionList that is only filled in the first time somebody looks at it.
+ *
+ * Building the list of allowable Actions is expensive, and most Actors decide what to
+ * do from their Behaviours without ever reading it. This list defers the work to a
+ * populator that runs at most once, the first time the list is read or modified.
+ */
+public class LazyActionList extends ActionList {
+	/**
+	 * Fills in the list, or null once it has run
+	 */
+	private Consumer<ActionList> populator;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param populator adds the Actions to the list when they are first needed
+	 */
+	public LazyActionList(Consumer<ActionList> populator) {
+		Objects.requireNonNull(populator);
+		this.populator = populator;
+	}
+
+	/**
+	 * @return true if the Actions have been built
+	 */
+	public boolean isPopulated() {
+		return populator == null;
+	}
+
+	/**
+	 * Run the populator if it has not been run yet.
+	 */
+	private void populate() {
+		if (populator != null) {
+			Consumer<ActionList> pending = populator;
+			// Clear first, as the populator adds to this list
+			populator = null;
+			pending.accept(this);
+		}
+	}
+
+	@Override
+	public void add(ActionList actions) {
+		populate();
+		super.add(actions);
+	}
+
+	@Override
+	public void add(List<Action> actions) {
+		populate();
+		super.add(actions);
+	}
+
+	@Override
+	public boolean add(Action action) {
+		populate();
+		return super.add(action);
+	}
+
+	@Override
+	public Iterator<Action> iterator() {
+		populate();
+		return super.iterator();
+	}
+
+	@Override
+	public List<Action> sorted(Comparator<Action> comparator) {
+		populate();
+		return super.sorted(comparator);
+	}
+
+	@Override
+	public void clear() {
+		populate();
+		super.clear();
+	}
+
+	@Override
+	public int size() {
+		populate();
+		return super.size();
+	}
+
+	@Override
+	public void remove(Action action) {
+		populate();
+		super.remove(action);
+	}
+
+	@Override
+	public Action get(int i) {
+		populate();
+		return super.get(i);
+	}
+
+	@Override
+	public List<Action> getUnmodifiableActionList() {
+		populate();
+		return super.getUnmodifiableActionList();
+	}
+}
@@ -1,26 +1,29 @@
 package edu.monash.fit2099.engine.actions;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
 /**
  * An Action that moves the Actor.
+ * It never changes once made, so the same one can be offered to any Actor, turn after turn.
+ * See {@link Location#getMoveAction(Actor, String, String)}.
  */
 public class MoveActorAction extends Action {
 
 	/**
 	 * Target location
 	 */
-	private Location moveToLocation;
+	private final Location moveToLocation;
 	/**
 	 * One of the 8-d navigation
 	 */
-	private String direction;
+	private final String direction;
 	/**
 	 * Or the command key
 	 */
-	private String hotKey;
+	private final String hotKey;
 
 	/**
 	 * Constructor to create an Action that will move the Actor to a Location in a given Direction, using
@@ -71,6 +74,25 @@ public class MoveActorAction extends Action {
 		return menuDescription(actor);
 	}
 
+	/**
+	 * A planned move can no longer be made if something has got to the destination first, or
+	 * the actor has been moved somewhere the destination is not an exit from.
+	 *
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the actor is still on the map, next to the destination, and can enter it
+	 */
+	@Override
+	public boolean isStillValid(Actor actor, GameMap map) {
+		if (!map.contains(actor) || !moveToLocation.canActorEnter(actor))
+			return false;
+		for (Exit exit : map.locationOf(actor).getExits()) {
+			if (exit.getDestination() == moveToLocation)
+				return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Returns a description of this movement suitable to display in the menu.
 	 *
@@ -82,6 +104,15 @@ public class MoveActorAction extends Action {
 		return actor + " moves " + direction;
 	}
 
+	/**
+	 * Returns the direction of the move, as shown in the menu.
+	 *
+	 * @return the direction, e.g. "north"
+	 */
+	public String getDirection() {
+		return direction;
+	}
+
 	/**
 	 * Returns this Action's hotkey.
 	 *
@@ -2,19 +2,27 @@ package edu.monash.fit2099.engine.actors;
 
 
 import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
+import edu.monash.fit2099.engine.actors.attributes.IntActorAttribute;
+import edu.monash.fit2099.engine.capabilities.CapabilitySet;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.events.AttributeChangedEvent;
+import edu.monash.fit2099.engine.events.EventBus;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * The Actor class represents a {@link GameEntity} that can perform an {@link Action}.
@@ -24,14 +32,21 @@ import java.util.*;
  */
 public abstract class Actor extends GameEntity implements Printable {
     private static final float DEFAULT_DAMAGE_MULTIPLIER = 1.0f;
+    private static final int BASE_ATTRIBUTE_COUNT = BaseActorAttributes.values().length;
 
     /**
      * A flexible and extensible attributes system that allows new attributes to be added,
      * which enables more interesting game mechanics.
      * For example, in addition to hit points, another attribute that represents its stamina can be added.
      * If the actor runs out of stamina, it will be unable to perform certain actions, such as attacking.
+     * Attributes named by {@link BaseActorAttributes} are kept in an array indexed by ordinal, so the common
+     * ones are found without hashing; attributes named by any other enumeration are kept in a map.
      */
-    private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
+    private final IntActorAttribute[] baseAttributes = new IntActorAttribute[BASE_ATTRIBUTE_COUNT];
+    /**
+     * Attributes not named by {@link BaseActorAttributes}, created when the first one is added
+     */
+    private Map<Enum<?>, IntActorAttribute> otherAttributes;
     /**
      * Actor's name
      */
@@ -44,6 +59,19 @@ public abstract class Actor extends GameEntity implements Printable {
      * A bag of items
      */
     private final List<Item> itemInventory = new ArrayList<>();
+    /**
+     * Every capability of every item in the inventory, rebuilt when the inventory or any
+     * capability changes
+     */
+    private final CapabilitySet inventoryCapabilities = new CapabilitySet();
+    /**
+     * True if inventoryCapabilities needs rebuilding before it is next used
+     */
+    private boolean inventoryCapabilitiesStale = true;
+    /**
+     * Added to every item in the inventory, to be told when its capabilities change
+     */
+    private final Runnable inventoryCapabilitiesChanged = () -> inventoryCapabilitiesStale = true;
     /**
      * Status effects of the current actor,
      * e.g., the current actor might be poisoned, so a Poison status effect
@@ -56,6 +84,14 @@ public abstract class Actor extends GameEntity implements Printable {
     protected float damageMultiplier;
     private final Wallet wallet;
     private IntrinsicWeapon intrinsicWeapon;
+    /**
+     * This actor's own random stream, split from the game's seed
+     */
+    private final RandomGenerator random = GameRandom.split();
+    /**
+     * Where changes to this actor's attributes are published, once it has been placed on a map
+     */
+    private EventBus events;
 
     /**
      * The constructor of the Actor class.
@@ -72,6 +108,16 @@ public abstract class Actor extends GameEntity implements Printable {
         this.wallet = new Wallet();
     }
 
+    /**
+     * Returns this actor's own random stream. Anything random that happens because of this
+     * actor, such as its attacks or its wandering, should draw from here.
+     *
+     * @return the random stream
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
     /**
      * A method for checking whether this actor has a specific attribute
      *
@@ -79,7 +125,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasAttribute(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return this.attribute(name) != null;
     }
 
     /**
@@ -87,9 +133,31 @@ public abstract class Actor extends GameEntity implements Printable {
      *
      * @param name      the name of the attribute to be added, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
      * @param attribute an object that implements the {@link ActorAttribute} interface.
+     *                  Attributes that are not already an {@link IntActorAttribute} are wrapped in one.
      */
     public void addAttribute(Enum<?> name, ActorAttribute<Integer> attribute) {
-        this.attributes.put(name, attribute);
+        IntActorAttribute intAttribute = IntActorAttribute.of(attribute);
+        if (name instanceof BaseActorAttributes base) {
+            this.baseAttributes[base.ordinal()] = intAttribute;
+        } else {
+            if (this.otherAttributes == null) {
+                this.otherAttributes = new HashMap<>();
+            }
+            this.otherAttributes.put(name, intAttribute);
+        }
+    }
+
+    /**
+     * Find an attribute by name.
+     *
+     * @param name the name of the attribute
+     * @return the attribute, or null if the actor doesn't have it
+     */
+    private IntActorAttribute attribute(Enum<?> name) {
+        if (name instanceof BaseActorAttributes base) {
+            return this.baseAttributes[base.ordinal()];
+        }
+        return this.otherAttributes == null ? null : this.otherAttributes.get(name);
     }
 
     /**
@@ -110,15 +178,18 @@ public abstract class Actor extends GameEntity implements Printable {
      * @throws IllegalArgumentException if the operation is invalid.
      */
     public void modifyAttribute(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
+        IntActorAttribute attribute = this.attribute(name);
+        int previous = attribute.getAsInt();
         if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increase(value);
+            attribute.increaseAsInt(value);
         } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decrease(value);
+            attribute.decreaseAsInt(value);
         } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).update(value);
+            attribute.updateAsInt(value);
         } else {
             throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
         }
+        attributeChanged(name, previous, attribute.getAsInt());
     }
 
     /**
@@ -132,11 +203,11 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void modifyAttributeMaximum(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
         if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increaseMaximum(value);
+            this.attribute(name).increaseMaximumAsInt(value);
         } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decreaseMaximum(value);
+            this.attribute(name).decreaseMaximumAsInt(value);
         } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).updateMaximum(value);
+            this.attribute(name).updateMaximumAsInt(value);
         } else {
             throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's attribute.");
         }
@@ -149,11 +220,11 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the value of the attribute or null if the attribute doesn't exist
      */
     public Integer getAttribute(Enum<?> name) {
-        ActorAttribute<Integer> attribute = this.attributes.get(name);
+        IntActorAttribute attribute = this.attribute(name);
         if (attribute == null) {
             return null;
         }
-        return attribute.get();
+        return attribute.getAsInt();
     }
 
     /**
@@ -163,11 +234,43 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the maximum value of the attribute or null if the attribute doesn't exist
      */
     public Integer getAttributeMaximum(Enum<?> name) {
-        ActorAttribute<Integer> attribute = this.attributes.get(name);
+        IntActorAttribute attribute = this.attribute(name);
         if (attribute == null) {
             return null;
         }
-        return attribute.getMaximum();
+        return attribute.getMaximumAsInt();
+    }
+
+    /**
+     * A method for getting the value of an attribute without boxing it.
+     * Check {@link #hasAttribute(Enum)} first if the actor might not have the attribute.
+     *
+     * @param name the name of the attribute to be retrieved, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
+     * @return the value of the attribute
+     * @throws IllegalArgumentException if the attribute doesn't exist
+     */
+    public int getAttributeAsInt(Enum<?> name) {
+        IntActorAttribute attribute = this.attribute(name);
+        if (attribute == null) {
+            throw new IllegalArgumentException(this.name + " has no attribute " + name);
+        }
+        return attribute.getAsInt();
+    }
+
+    /**
+     * A method for getting the maximum value of an attribute without boxing it.
+     * Check {@link #hasAttribute(Enum)} first if the actor might not have the attribute.
+     *
+     * @param name the name of the attribute to be retrieved, which must be a value of an enumeration, such as BaseActorAttributes.STAMINA.
+     * @return the maximum value of the attribute
+     * @throws IllegalArgumentException if the attribute doesn't exist
+     */
+    public int getAttributeMaximumAsInt(Enum<?> name) {
+        IntActorAttribute attribute = this.attribute(name);
+        if (attribute == null) {
+            throw new IllegalArgumentException(this.name + " has no attribute " + name);
+        }
+        return attribute.getMaximumAsInt();
     }
 
     /**
@@ -258,6 +361,8 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addItemToInventory(Item item) {
         itemInventory.add(item);
+        item.addCapabilityListener(inventoryCapabilitiesChanged);
+        inventoryCapabilitiesStale = true;
     }
 
     /**
@@ -268,7 +373,9 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param item The Item to remove.
      */
     public void removeItemFromInventory(Item item) {
-        itemInventory.remove(item);
+        if (itemInventory.remove(item))
+            item.removeCapabilityListener(inventoryCapabilitiesChanged);
+        inventoryCapabilitiesStale = true;
     }
 
     /**
@@ -322,6 +429,44 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public abstract Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display);
 
+    /**
+     * Work out, ahead of this Actor's turn, the Action it means to take.
+     * <p>
+     * When the World plans turns (see {@link edu.monash.fit2099.engine.positions.World#setDecisionPool}),
+     * every Actor but the player is asked for its plan at the start of the turn, all at once on a
+     * pool of threads. This method must therefore only read the map, other Actors and the Items
+     * around it, and draw random numbers only from this Actor's own {@link #getRandom()}. Anything
+     * that changes the game, such as counting down a timer, belongs in
+     * {@link #playTurn(Action, ActionList, Action, GameMap, Display)}.
+     * <p>
+     * By default an Actor does not plan, and decides in its turn as usual.
+     *
+     * @param map the map containing the Actor
+     * @return the Action to take, or null to decide during the turn instead
+     */
+    public Action planTurn(GameMap map) {
+        return null;
+    }
+
+    /**
+     * Select and return an action to perform on the current turn, given the plan made by
+     * {@link #planTurn(GameMap)}. The plan has been checked with {@link Action#isStillValid} and
+     * replaced with doing nothing if it could no longer be done.
+     * <p>
+     * By default the plan is ignored and {@link #playTurn(ActionList, Action, GameMap, Display)}
+     * decides afresh, so Actors that plan must override this.
+     *
+     * @param plan       the Action planned for this turn
+     * @param actions    collection of possible Actions for this Actor
+     * @param lastAction The Action this Actor took last turn
+     * @param map        the map containing the Actor
+     * @param display    the I/O object to which messages may be written
+     * @return the Action to be performed
+     */
+    public Action playTurn(Action plan, ActionList actions, Action lastAction, GameMap map, Display display) {
+        return playTurn(actions, lastAction, map, display);
+    }
+
     /**
      * Returns a new collection of the Actions that the otherActor can do to the current Actor.
      *
@@ -344,7 +489,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if and only if hitPoints is positive.
      */
     public boolean isConscious() {
-        return this.getAttribute(BaseActorAttributes.HEALTH) > 0;
+        return this.baseAttributes[BaseActorAttributes.HEALTH.ordinal()].getAsInt() > 0;
     }
 
     /**
@@ -377,7 +522,10 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param damage the damage points that the actor receives
      */
     public void hurt(int damage) {
-        this.modifyAttribute(BaseActorAttributes.HEALTH, ActorAttributeOperations.DECREASE, damage);
+        IntActorAttribute health = this.baseAttributes[BaseActorAttributes.HEALTH.ordinal()];
+        int previous = health.getAsInt();
+        health.decreaseAsInt(damage);
+        attributeChanged(BaseActorAttributes.HEALTH, previous, health.getAsInt());
     }
 
     /**
@@ -386,7 +534,25 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param points the health points that the actor receives
      */
     public void heal(int points) {
-        this.modifyAttribute(BaseActorAttributes.HEALTH, ActorAttributeOperations.INCREASE, points);
+        IntActorAttribute health = this.baseAttributes[BaseActorAttributes.HEALTH.ordinal()];
+        int previous = health.getAsInt();
+        health.increaseAsInt(points);
+        attributeChanged(BaseActorAttributes.HEALTH, previous, health.getAsInt());
+    }
+
+    /**
+     * Set the EventBus this actor publishes changes to its attributes on. Called by the
+     * GameMap when the actor is placed on it.
+     *
+     * @param events the bus of the actor's map
+     */
+    public void setEventBus(EventBus events) {
+        this.events = events;
+    }
+
+    private void attributeChanged(Enum<?> name, int previous, int current) {
+        if (previous != current && events != null && events.hasSubscribers(AttributeChangedEvent.class))
+            events.publish(new AttributeChangedEvent(this, name, previous, current));
     }
 
     /**
@@ -414,11 +580,88 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     @Override
     public final boolean hasCapability(Enum<?> capability) {
-        for (Item item : itemInventory) {
-            if (item.hasCapability(capability)) {
-                return true;
+        if (capabilitySet.hasCapability(capability)) {
+            return true;
+        }
+        if (inventoryCapabilitiesStale) {
+            inventoryCapabilities.clear();
+            for (Item item : itemInventory) {
+                item.addCapabilitiesTo(inventoryCapabilities);
             }
+            inventoryCapabilitiesStale = false;
+        }
+        return inventoryCapabilities.hasCapability(capability);
+    }
+
+    /**
+     * Write this Actor's capabilities, display character, damage multiplier, balance, attributes,
+     * inventory and status effects to a snapshot.
+     * The name and intrinsic weapon are not written, as the constructor sets them up again.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeChar(displayChar);
+        out.writeFloat(damageMultiplier);
+        out.writeInt(wallet.getBalance());
+        List<Enum<?>> attributeNames = new ArrayList<>();
+        for (BaseActorAttributes base : BaseActorAttributes.values()) {
+            if (baseAttributes[base.ordinal()] != null) {
+                attributeNames.add(base);
+            }
+        }
+        if (otherAttributes != null) {
+            attributeNames.addAll(otherAttributes.keySet());
+        }
+        out.writeCount(attributeNames.size());
+        for (Enum<?> attributeName : attributeNames) {
+            IntActorAttribute attribute = attribute(attributeName);
+            out.writeEnum(attributeName);
+            out.writeInt(attribute.getMaximumAsInt());
+            out.writeInt(attribute.getAsInt());
+        }
+        out.writeObjects(itemInventory);
+        out.writeObjects(statusEffects);
+    }
+
+    /**
+     * Restore this Actor's state from a snapshot.
+     * Attributes that the constructor already added are updated in place; any others are added
+     * as a {@link BaseActorAttribute}.
+     *
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        displayChar = in.readChar();
+        damageMultiplier = in.readFloat();
+        wallet.deductBalance(wallet.getBalance());
+        wallet.addBalance(in.readInt());
+        int attributeCount = in.readCount();
+        for (int i = 0; i < attributeCount; i++) {
+            Enum<?> attributeName = in.readEnum();
+            int maximum = in.readInt();
+            int points = in.readInt();
+            if (attribute(attributeName) == null) {
+                addAttribute(attributeName, new BaseActorAttribute(maximum));
+            }
+            IntActorAttribute attribute = attribute(attributeName);
+            attribute.updateMaximumAsInt(maximum);
+            attribute.updateAsInt(points);
+        }
+        for (Item item : itemInventory) {
+            item.removeCapabilityListener(inventoryCapabilitiesChanged);
+        }
+        itemInventory.clear();
+        for (Item item : in.readObjects(Item.class)) {
+            itemInventory.add(item);
+            item.addCapabilityListener(inventoryCapabilitiesChanged);
         }
-        return capabilitySet.hasCapability(capability);
+        inventoryCapabilitiesStale = true;
+        statusEffects.clear();
+        statusEffects.addAll(in.readObjects(StatusEffect.class));
     }
 }
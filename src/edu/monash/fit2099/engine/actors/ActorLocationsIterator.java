@@ -9,6 +9,10 @@ import java.util.*;
  * per location rule. Has a nifty iterator that lets us modify the collection
  * while iterating it.
  *
+ * Actors take their turns in the order they were added, with the player always
+ * first. An Actor that is removed and added again (e.g. when teleporting) moves
+ * to the back of the queue.
+ *
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
 	/**
@@ -16,7 +20,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 */
 	private final Map<Location, Actor> locationToActor;
 	/**
-	 * A mapping of actor to location
+	 * A mapping of actor to location, kept in insertion order so that turn order is deterministic
 	 */
 	private final Map<Actor, Location> actorToLocation;
 	/**
@@ -29,7 +33,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 */
 	public ActorLocationsIterator() {
 		locationToActor = new HashMap<Location, Actor>();
-		actorToLocation = new HashMap<Actor, Location>();
+		actorToLocation = new LinkedHashMap<Actor, Location>();
 	}
 
 	/**
@@ -129,10 +133,14 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	/**
 	 * Class to allow iterating over all Actors in the system, player first
 	 * This allows Actors to take turns in a known order.
+	 *
+	 * The turn order is fixed when the iterator is created. Actors added afterwards
+	 * wait until the next turn, and Actors removed before their turn are skipped.
 	 */
 	class ActorIterator implements Iterator<Actor> {
 		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
+		Actor[] actors;
+		int cursor = 0;
 
 		/**
 		 * Constructor.
@@ -141,12 +149,15 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		public ActorIterator(Map<Actor, Location> actorLocations) {
 			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
+			actors = new Actor[actorLocations.size()];
+
+			// Make sure the player is first.
+			int index = 0;
+			if (actorLocations.containsKey(player))
+				actors[index++] = player;
+			for (Actor actor : actorLocations.keySet()) {
+				if (actor != player)
+					actors[index++] = actor;
 			}
 		}
 
@@ -156,12 +167,11 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
-					return true;
+			// Skip past anyone who has left the system since the turn began
+			while (cursor < actors.length && !actorLocations.containsKey(actors[cursor])) {
+				cursor++;
 			}
-
-			return false;
+			return cursor < actors.length;
 		}
 
 		/**
@@ -169,13 +179,12 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
-			}
+			if (!hasNext())
+				throw new ConcurrentModificationException();
 
-			throw new ConcurrentModificationException();
+			Actor actor = actors[cursor];
+			actors[cursor++] = null;
+			return actor;
 		}
 	}
 
@@ -1,6 +1,8 @@
 package edu.monash.fit2099.engine.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.metrics.Section;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 /**
@@ -33,4 +35,22 @@ public interface Behaviour {
 	 * @return an Action that actor can perform, or null if actor can't do this.
 	 */
 	Action getAction(Actor actor, GameMap map);
+
+	/**
+	 * Ask a Behaviour for an Action, timing it under {@link Section#BEHAVIOUR} while
+	 * {@link TurnMetrics} is recording. Actors should call Behaviours through this.
+	 *
+	 * @param behaviour the Behaviour to ask
+	 * @param actor the Actor acting
+	 * @param map the GameMap containing the Actor
+	 * @return what the Behaviour returned
+	 */
+	static Action actionFrom(Behaviour behaviour, Actor actor, GameMap map) {
+		long started = TurnMetrics.start();
+		try {
+			return behaviour.getAction(actor, map);
+		} finally {
+			TurnMetrics.stop(Section.BEHAVIOUR, behaviour.getClass(), started);
+		}
+	}
 }
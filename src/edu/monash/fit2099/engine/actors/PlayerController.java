@@ -0,0 +1,24 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Chooses the player's Action without going through the Menu.
+ *
+ * Used by headless runs, where a script or an AI stands in for the human at the keyboard.
+ */
+public interface PlayerController {
+
+	/**
+	 * Select the Action the player performs this turn.
+	 *
+	 * @param player     the player Actor
+	 * @param actions    the Actions the player could perform
+	 * @param lastAction the Action the player took last turn
+	 * @param map        the GameMap containing the player
+	 * @return the chosen Action, or null to do nothing this turn
+	 */
+	Action chooseAction(Actor player, ActionList actions, Action lastAction, GameMap map);
+}
@@ -1,6 +1,9 @@
 package edu.monash.fit2099.engine.actors;
 
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * Abstract class that represents a status effect that an actor may have
@@ -9,7 +12,7 @@ import edu.monash.fit2099.engine.positions.Location;
  * to deal damage over time. After a certain amount of turns, the status
  * effect can remove itself from the actor's list of status effects.
  */
-public abstract class StatusEffect {
+public abstract class StatusEffect implements Snapshottable {
     private final String name;
 
     public StatusEffect(String name) {
@@ -24,6 +27,23 @@ public abstract class StatusEffect {
      */
     public void tick(Location location, Actor actor) {}
 
+    /**
+     * Write the state of this status effect to a snapshot.
+     * Status effects with state that changes over time, such as a remaining duration, override this.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {}
+
+    /**
+     * Restore the state of this status effect from a snapshot.
+     *
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {}
+
     @Override
     public String toString() {
         return name;
@@ -0,0 +1,160 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * An attribute of an actor whose points are held as a primitive int.
+ * Actors read and change these attributes through the int methods, so the hot paths such as
+ * hurting, healing and checking consciousness never box an Integer.
+ * The Integer methods of {@link ActorAttribute} are implemented on top of the int ones.
+ */
+public interface IntActorAttribute extends ActorAttribute<Integer> {
+    /**
+     * Overwrites the current points of the attribute with the given points.
+     * @param points the points to overwrite the current points of the attribute
+     */
+    void updateAsInt(int points);
+
+    /**
+     * Increases the current points of the attribute by the given points.
+     * @param points the points to increase the current points of the attribute
+     */
+    void increaseAsInt(int points);
+
+    /**
+     * Decreases the current points of the attribute by the given points.
+     * @param points the points to decrease the current points of the attribute
+     */
+    void decreaseAsInt(int points);
+
+    /**
+     * Getter for the current points of the attribute.
+     * @return the current points of the attribute
+     */
+    int getAsInt();
+
+    /**
+     * Getter for the maximum points of the attribute.
+     * @return the maximum points of the attribute
+     */
+    default int getMaximumAsInt() {
+        return getAsInt();
+    }
+
+    /**
+     * Overwrites the current maximum points of the attribute with the given points.
+     * @param points the points to overwrite the current maximum points of the attribute
+     */
+    default void updateMaximumAsInt(int points) {
+        updateAsInt(points);
+    }
+
+    /**
+     * Increases the current maximum points of the attribute by the given points.
+     * @param points the points to increase the current maximum points of the attribute
+     */
+    default void increaseMaximumAsInt(int points) {
+        increaseAsInt(points);
+    }
+
+    /**
+     * Decreases the current maximum points of the attribute by the given points.
+     * @param points the points to decrease the current maximum points of the attribute
+     */
+    default void decreaseMaximumAsInt(int points) {
+        decreaseAsInt(points);
+    }
+
+    @Override
+    default void update(Integer points) {
+        updateAsInt(points);
+    }
+
+    @Override
+    default void increase(Integer points) {
+        increaseAsInt(points);
+    }
+
+    @Override
+    default void decrease(Integer points) {
+        decreaseAsInt(points);
+    }
+
+    @Override
+    default Integer get() {
+        return getAsInt();
+    }
+
+    @Override
+    default Integer getMaximum() {
+        return getMaximumAsInt();
+    }
+
+    @Override
+    default void updateMaximum(Integer points) {
+        updateMaximumAsInt(points);
+    }
+
+    @Override
+    default void increaseMaximum(Integer points) {
+        increaseMaximumAsInt(points);
+    }
+
+    @Override
+    default void decreaseMaximum(Integer points) {
+        decreaseMaximumAsInt(points);
+    }
+
+    /**
+     * View any integer attribute as an IntActorAttribute.
+     * Attributes that already are one are returned as they are; any other is wrapped, and
+     * the int methods of the wrapper call its Integer methods.
+     *
+     * @param attribute the attribute
+     * @return the attribute as an IntActorAttribute
+     */
+    static IntActorAttribute of(ActorAttribute<Integer> attribute) {
+        if (attribute instanceof IntActorAttribute intAttribute) {
+            return intAttribute;
+        }
+        return new IntActorAttribute() {
+            @Override
+            public void updateAsInt(int points) {
+                attribute.update(points);
+            }
+
+            @Override
+            public void increaseAsInt(int points) {
+                attribute.increase(points);
+            }
+
+            @Override
+            public void decreaseAsInt(int points) {
+                attribute.decrease(points);
+            }
+
+            @Override
+            public int getAsInt() {
+                return attribute.get();
+            }
+
+            @Override
+            public int getMaximumAsInt() {
+                return attribute.getMaximum();
+            }
+
+            @Override
+            public void updateMaximumAsInt(int points) {
+                attribute.updateMaximum(points);
+            }
+
+            @Override
+            public void increaseMaximumAsInt(int points) {
+                attribute.increaseMaximum(points);
+            }
+
+            @Override
+            public void decreaseMaximumAsInt(int points) {
+                attribute.decreaseMaximum(points);
+            }
+        };
+    }
+}
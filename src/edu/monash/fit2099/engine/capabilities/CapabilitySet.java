@@ -1,9 +1,9 @@
 package edu.monash.fit2099.engine.capabilities;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * A collection of Capability objects.
@@ -11,14 +11,27 @@ import java.util.stream.Collectors;
  * whether Items provided (or required) certain abilities, whether terrain was passable under particular
  * circumstances, etc.  Consider Capabilities an all-purpose mechanism for enabling game capabilities, statuses, etc.
  * Don't be too literal about the name. You can keep all sorts of things in here.
- * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.  
+ * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.
  * Any Enum type can be used to represent a Capability, so these classes can and should be defined in the game client.
+ *
+ * Capabilities are kept as bits. Every enum type used as a capability is given its own run of bits the first
+ * time it is seen, one per constant, so checking, adding and removing a capability never allocate.
  */
 public class CapabilitySet {
 	/**
-	 * The set of capability (uniques only)
+	 * The capabilities held, as bits numbered by {@link CapabilityTypes#bitOf(Enum)}
 	 */
-	private final Set<Enum<?>> capabilitySet = new HashSet<>();
+	private long[] bits = new long[1];
+
+	/**
+	 * The answers to findCapabilitiesByType, indexed by type, dropped when a capability of that type changes
+	 */
+	private List<?>[] typeLists = new List<?>[0];
+
+	/**
+	 * Told whenever this set changes, or null until the first is added
+	 */
+	private List<Runnable> listeners;
 
 	/**
 	 * Check if this instance has capability
@@ -26,7 +39,9 @@ public class CapabilitySet {
 	 * @return true if it has the capability, false otherwise
 	 */
 	public boolean hasCapability(Enum<?> capability) {
-		return capabilitySet.contains(capability);
+		int bit = CapabilityTypes.bitOf(capability);
+		int word = bit >>> 6;
+		return word < bits.length && (bits[word] & (1L << bit)) != 0;
 	}
 
 	/**
@@ -35,7 +50,12 @@ public class CapabilitySet {
 	 */
 	public void addCapability(Enum<?> capability) {
 		if(!hasCapability(capability)){
-			capabilitySet.add(capability);
+			int bit = CapabilityTypes.bitOf(capability);
+			int word = bit >>> 6;
+			if (word >= bits.length)
+				bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+			bits[word] |= 1L << bit;
+			changed(capability);
 		}
 	}
 
@@ -45,29 +65,120 @@ public class CapabilitySet {
 	 */
 	public void removeCapability(Enum<?> capability) {
 		if(hasCapability(capability)){
-			capabilitySet.remove(capability);
+			int bit = CapabilityTypes.bitOf(capability);
+			bits[bit >>> 6] &= ~(1L << bit);
+			changed(capability);
+		}
+	}
+
+	/**
+	 * Add every capability of another set to this one
+	 * @param other the set to add
+	 */
+	public void addAll(CapabilitySet other) {
+		if (other.bits.length > bits.length)
+			bits = Arrays.copyOf(bits, other.bits.length);
+		boolean changed = false;
+		for (int i = 0; i < other.bits.length; i++) {
+			long merged = bits[i] | other.bits[i];
+			if (merged != bits[i]) {
+				bits[i] = merged;
+				changed = true;
+			}
+		}
+		if (changed) {
+			Arrays.fill(typeLists, null);
+			notifyListeners();
 		}
 	}
 
 	/**
-	 * Get unmodifiable capabilities list to avoid privacy leak
+	 * Remove every capability from this set
+	 */
+	public void clear() {
+		Arrays.fill(bits, 0L);
+		Arrays.fill(typeLists, null);
+		notifyListeners();
+	}
+
+	/**
+	 * Get unmodifiable capabilities list to avoid privacy leak.
+	 * The order does not depend on the order the capabilities were added in: they are grouped by enum type,
+	 * the types in the order they were first used as capabilities anywhere, and each type's constants are in
+	 * declaration order.
 	 * @return unmodifiable list of capabilities
 	 */
 	public List<Enum<?>> capabilitiesList(){
-		return List.copyOf(capabilitySet);
+		List<Enum<?>> capabilities = new ArrayList<>();
+		for (int word = 0; word < bits.length; word++) {
+			long remaining = bits[word];
+			while (remaining != 0) {
+				int bit = (word << 6) + Long.numberOfTrailingZeros(remaining);
+				capabilities.add(CapabilityTypes.capabilityAt(bit));
+				remaining &= remaining - 1;
+			}
+		}
+		return Collections.unmodifiableList(capabilities);
 	}
 
 	/**
-	 * Get unmodifiable capabilities by a specific enum type
+	 * Get unmodifiable capabilities by a specific enum type.
+	 * The list is kept until a capability of that type is added or removed, so asking again is free.
 	 * @param <T> Enum type
 	 * @param enumType Class type, to be filtered later
 	 * @return list of enums based on type, empty list if type is not in the set.
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends Enum<?>> List<T> findCapabilitiesByType(Class<T> enumType){
-		return capabilitySet.stream()
-				.filter(c -> c.getDeclaringClass().equals(enumType))
-				.map(response -> (T) response)
-				.collect(Collectors.toList());
+		if (!enumType.isEnum())
+			return List.of();
+		int type = CapabilityTypes.indexOf(enumType);
+		if (type < typeLists.length && typeLists[type] != null)
+			return (List<T>) typeLists[type];
+
+		List<T> found = new ArrayList<>();
+		for (T constant : enumType.getEnumConstants()) {
+			if (hasCapability(constant))
+				found.add(constant);
+		}
+		List<T> result = found.isEmpty() ? List.of() : Collections.unmodifiableList(found);
+		if (type >= typeLists.length)
+			typeLists = Arrays.copyOf(typeLists, type + 1);
+		typeLists[type] = result;
+		return result;
+	}
+
+	/**
+	 * Have a listener told whenever this set changes, e.g. so something built from several sets
+	 * knows to rebuild. Listeners are run on the thread making the change.
+	 * @param listener the listener to add
+	 */
+	public void addListener(Runnable listener) {
+		if (listeners == null)
+			listeners = new ArrayList<>(1);
+		listeners.add(listener);
+	}
+
+	/**
+	 * Stop telling a listener about changes to this set.
+	 * @param listener the listener to remove
+	 */
+	public void removeListener(Runnable listener) {
+		if (listeners != null)
+			listeners.remove(listener);
+	}
+
+	private void changed(Enum<?> capability) {
+		int type = CapabilityTypes.indexOf(capability.getDeclaringClass());
+		if (type < typeLists.length)
+			typeLists[type] = null;
+		notifyListeners();
+	}
+
+	private void notifyListeners() {
+		if (listeners != null) {
+			for (int i = 0; i < listeners.size(); i++)
+				listeners.get(i).run();
+		}
 	}
 }
@@ -0,0 +1,76 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Numbers the enum types used as capabilities, and their constants, for {@link CapabilitySet}.
+ *
+ * The first time an enum type is seen it is given the next free index and a run of bits, one
+ * per constant. Numbers are never reused, so they stay valid for the life of the program.
+ */
+final class CapabilityTypes {
+
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Index and first bit of every enum type seen so far, guarded by LOCK
+	 */
+	private static final Map<Class<?>, int[]> ASSIGNED = new HashMap<>();
+
+	/**
+	 * The constant each bit stands for. Replaced, never changed, so it can be read without LOCK.
+	 */
+	private static volatile Enum<?>[] constantsByBit = new Enum<?>[0];
+
+	/**
+	 * Looks up the index and first bit of an enum type, assigning them the first time
+	 */
+	private static final ClassValue<int[]> TYPES = new ClassValue<>() {
+		@Override
+		protected int[] computeValue(Class<?> type) {
+			synchronized (LOCK) {
+				return ASSIGNED.computeIfAbsent(type, CapabilityTypes::assign);
+			}
+		}
+	};
+
+	private CapabilityTypes() {
+	}
+
+	/**
+	 * @param capability a capability
+	 * @return the bit standing for it
+	 */
+	static int bitOf(Enum<?> capability) {
+		return TYPES.get(capability.getDeclaringClass())[1] + capability.ordinal();
+	}
+
+	/**
+	 * @param enumType an enum type
+	 * @return its index, counting from 0 in the order types were first seen
+	 */
+	static int indexOf(Class<?> enumType) {
+		return TYPES.get(enumType)[0];
+	}
+
+	/**
+	 * @param bit a bit returned by {@link #bitOf(Enum)}
+	 * @return the capability it stands for
+	 */
+	static Enum<?> capabilityAt(int bit) {
+		return constantsByBit[bit];
+	}
+
+	private static int[] assign(Class<?> type) {
+		Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+		if (constants == null)
+			throw new IllegalArgumentException(type.getName() + " is not an enum type");
+		int base = constantsByBit.length;
+		Enum<?>[] grown = Arrays.copyOf(constantsByBit, base + constants.length);
+		System.arraycopy(constants, 0, grown, base, constants.length);
+		constantsByBit = grown;
+		return new int[]{ASSIGNED.size(), base};
+	}
+}
@@ -0,0 +1,76 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display that collects its output in memory instead of writing to the console.
+ *
+ * Once the buffer reaches its capacity the oldest half is discarded, so a long run
+ * keeps only its most recent output.
+ */
+public class BufferedDisplay extends Display {
+
+	private final StringBuilder buffer = new StringBuilder();
+	private final int capacity;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param capacity the maximum number of characters to keep
+	 * @throws IllegalArgumentException if capacity is not positive
+	 */
+	public BufferedDisplay(int capacity) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Capacity must be positive");
+		this.capacity = capacity;
+	}
+
+	@Override
+	public void print(Printable printable) {
+		buffer.append(printable.getDisplayChar());
+		trim();
+	}
+
+	@Override
+	public void print(String s) {
+		buffer.append(s);
+		trim();
+	}
+
+	@Override
+	public void println(String s) {
+		buffer.append(s).append(System.lineSeparator());
+		trim();
+	}
+
+	@Override
+	public void endLine() {
+		buffer.append(System.lineSeparator());
+		trim();
+	}
+
+	/**
+	 * @throws IllegalStateException always, as a BufferedDisplay has no input
+	 */
+	@Override
+	public char readChar() {
+		throw new IllegalStateException("BufferedDisplay has no input");
+	}
+
+	/**
+	 * @return everything currently held in the buffer
+	 */
+	public String getOutput() {
+		return buffer.toString();
+	}
+
+	/**
+	 * Discard everything held in the buffer.
+	 */
+	public void clear() {
+		buffer.setLength(0);
+	}
+
+	private void trim() {
+		if (buffer.length() > capacity)
+			buffer.delete(0, buffer.length() - capacity / 2);
+	}
+}
@@ -0,0 +1,99 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Turns a whole frame of map characters into a single write to the Display.
+ * <p>
+ * By default every frame is written in full, one line per row. In diffing mode the
+ * renderer remembers the previous frame and, using ANSI cursor movement, rewrites only
+ * the rows that changed. Diffing assumes the frame owns the top of the terminal, so it
+ * suits a dedicated viewer rather than a console that also scrolls the game's messages.
+ */
+public class FrameRenderer {
+	private static final String ESCAPE = "\u001B[";
+
+	private final boolean diffing;
+	private final StringBuilder output = new StringBuilder();
+	private char[] previousFrame;
+	private int previousWidth;
+	private int previousHeight;
+
+	/**
+	 * Constructor for a renderer that writes every frame in full.
+	 */
+	public FrameRenderer() {
+		this(false);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param diffing true to only redraw the rows that changed since the last frame
+	 */
+	public FrameRenderer(boolean diffing) {
+		this.diffing = diffing;
+	}
+
+	/**
+	 * Write a frame to the Display in one go.
+	 *
+	 * @param frame   the characters to draw, row by row, width * height of them
+	 * @param width   the number of characters in a row
+	 * @param height  the number of rows
+	 * @param display the Display to write to
+	 * @throws IllegalArgumentException if the frame is smaller than width * height
+	 */
+	public void render(char[] frame, int width, int height, Display display) {
+		Objects.requireNonNull(frame);
+		Objects.requireNonNull(display);
+		if (frame.length < width * height)
+			throw new IllegalArgumentException("Frame is smaller than " + width + "x" + height);
+
+		output.setLength(0);
+		if (!diffing) {
+			appendRows(frame, width, height);
+		} else if (previousFrame == null || previousWidth != width || previousHeight != height) {
+			// Nothing to compare against, so clear the screen and draw everything
+			output.append(ESCAPE).append("2J").append(ESCAPE).append("H");
+			appendRows(frame, width, height);
+		} else {
+			for (int y = 0; y < height; y++) {
+				if (!Arrays.equals(frame, y * width, (y + 1) * width, previousFrame, y * width, (y + 1) * width)) {
+					output.append(ESCAPE).append(y + 1).append(";1H").append(frame, y * width, width);
+				}
+			}
+			// Leave the cursor below the map for whatever is printed next
+			output.append(ESCAPE).append(height + 1).append(";1H");
+		}
+
+		if (diffing)
+			remember(frame, width, height);
+		if (output.length() > 0)
+			display.print(output.toString());
+	}
+
+	/**
+	 * Forget the previous frame, so the next frame is drawn in full.
+	 */
+	public void reset() {
+		previousFrame = null;
+	}
+
+	private void appendRows(char[] frame, int width, int height) {
+		String lineSeparator = System.lineSeparator();
+		output.ensureCapacity(height * (width + lineSeparator.length()));
+		for (int y = 0; y < height; y++) {
+			output.append(frame, y * width, width).append(lineSeparator);
+		}
+	}
+
+	private void remember(char[] frame, int width, int height) {
+		if (previousFrame == null || previousFrame.length != width * height)
+			previousFrame = new char[width * height];
+		System.arraycopy(frame, 0, previousFrame, 0, width * height);
+		previousWidth = width;
+		previousHeight = height;
+	}
+}
@@ -0,0 +1,33 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display that throws away everything written to it.
+ *
+ * There is nobody at the keyboard, so reading from it is an error.
+ */
+public class NullDisplay extends Display {
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	/**
+	 * @throws IllegalStateException always, as a NullDisplay has no input
+	 */
+	@Override
+	public char readChar() {
+		throw new IllegalStateException("NullDisplay has no input");
+	}
+}
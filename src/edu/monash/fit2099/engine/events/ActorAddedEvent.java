@@ -0,0 +1,37 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An Actor was placed on a map.
+ */
+public final class ActorAddedEvent implements GameEvent {
+    private final Actor actor;
+    private final Location location;
+
+    /**
+     * Constructor.
+     *
+     * @param actor    the Actor placed
+     * @param location where it was placed
+     */
+    public ActorAddedEvent(Actor actor, Location location) {
+        this.actor = actor;
+        this.location = location;
+    }
+
+    /**
+     * @return the Actor placed
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return where it was placed
+     */
+    public Location getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,47 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An Actor moved from one Location to another, possibly on another map.
+ */
+public final class ActorMovedEvent implements GameEvent {
+    private final Actor actor;
+    private final Location from;
+    private final Location to;
+
+    /**
+     * Constructor.
+     *
+     * @param actor the Actor that moved
+     * @param from  where it was
+     * @param to    where it is now
+     */
+    public ActorMovedEvent(Actor actor, Location from, Location to) {
+        this.actor = actor;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return the Actor that moved
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return where it was
+     */
+    public Location getFrom() {
+        return from;
+    }
+
+    /**
+     * @return where it is now
+     */
+    public Location getTo() {
+        return to;
+    }
+}
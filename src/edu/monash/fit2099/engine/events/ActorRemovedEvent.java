@@ -0,0 +1,37 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An Actor was taken off a map.
+ */
+public final class ActorRemovedEvent implements GameEvent {
+    private final Actor actor;
+    private final Location location;
+
+    /**
+     * Constructor.
+     *
+     * @param actor    the Actor removed
+     * @param location where it was
+     */
+    public ActorRemovedEvent(Actor actor, Location location) {
+        this.actor = actor;
+        this.location = location;
+    }
+
+    /**
+     * @return the Actor removed
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return where it was
+     */
+    public Location getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * The current value of one of an Actor's attributes changed.
+ */
+public final class AttributeChangedEvent implements GameEvent {
+    private final Actor actor;
+    private final Enum<?> attribute;
+    private final int previous;
+    private final int current;
+
+    /**
+     * Constructor.
+     *
+     * @param actor     the Actor
+     * @param attribute the attribute, e.g. BaseActorAttributes.HEALTH
+     * @param previous  the value before
+     * @param current   the value now
+     */
+    public AttributeChangedEvent(Actor actor, Enum<?> attribute, int previous, int current) {
+        this.actor = actor;
+        this.attribute = attribute;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * @return the Actor
+     */
+    public Actor getActor() {
+        return actor;
+    }
+
+    /**
+     * @return the attribute, e.g. BaseActorAttributes.HEALTH
+     */
+    public Enum<?> getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @return the value before
+     */
+    public int getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return the value now
+     */
+    public int getCurrent() {
+        return current;
+    }
+}
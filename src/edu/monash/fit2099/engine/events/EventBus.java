@@ -0,0 +1,131 @@
+package edu.monash.fit2099.engine.events;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link GameEvent}s to the listeners subscribed to their type.
+ * <p>
+ * Every GameMap in a World shares the World's bus, and so do the Actors on them. GameMaps
+ * and Locations publish when Actors, Ground and Items come and go, and Actors publish when
+ * their attributes change, so anything that keeps an answer worked out from that state can
+ * subscribe and keep it up to date instead of working it out again every turn.
+ * <p>
+ * Listeners are held per exact event class, and a publisher can ask
+ * {@link #hasSubscribers(Class)} before creating an event, so events nobody listens for cost
+ * one map lookup. Listeners are called in the order they subscribed, on the publishing thread,
+ * except while a thread is running {@link #deferringTo(List, Runnable)}.
+ */
+public class EventBus {
+
+    private static final Consumer<?>[] NONE = new Consumer<?>[0];
+
+    /**
+     * Where events published on this thread are held instead of delivered, if anywhere.
+     */
+    private static final ThreadLocal<List<Runnable>> held = new ThreadLocal<>();
+
+    /**
+     * The listeners for each event class. Replaced, never changed, so it can be read without locking.
+     */
+    private volatile Map<Class<?>, Consumer<?>[]> listeners = Map.of();
+
+    /**
+     * Deliver every event of the given class published from now on to a listener.
+     *
+     * @param type     the class of event
+     * @param listener what to call with each event
+     * @param <E>      the class of event
+     * @return the subscription, to cancel when the listener is no longer wanted
+     */
+    public <E extends GameEvent> Subscription subscribe(Class<E> type, Consumer<? super E> listener) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(listener);
+        synchronized (this) {
+            Map<Class<?>, Consumer<?>[]> updated = new HashMap<>(listeners);
+            Consumer<?>[] current = updated.getOrDefault(type, NONE);
+            Consumer<?>[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = listener;
+            updated.put(type, grown);
+            listeners = updated;
+        }
+        return () -> unsubscribe(type, listener);
+    }
+
+    private synchronized void unsubscribe(Class<?> type, Consumer<?> listener) {
+        Consumer<?>[] current = listeners.getOrDefault(type, NONE);
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Map<Class<?>, Consumer<?>[]> updated = new HashMap<>(listeners);
+                Consumer<?>[] shrunk = new Consumer<?>[current.length - 1];
+                System.arraycopy(current, 0, shrunk, 0, i);
+                System.arraycopy(current, i + 1, shrunk, i, shrunk.length - i);
+                if (shrunk.length == 0)
+                    updated.remove(type);
+                else
+                    updated.put(type, shrunk);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check whether anything listens for a class of event, before going to the trouble of
+     * creating one.
+     *
+     * @param type the class of event
+     * @return true if at least one listener is subscribed to it
+     */
+    public boolean hasSubscribers(Class<? extends GameEvent> type) {
+        return listeners.containsKey(type);
+    }
+
+    /**
+     * Deliver an event to every listener subscribed to its class.
+     *
+     * @param event the event
+     */
+    public void publish(GameEvent event) {
+        Consumer<?>[] targets = listeners.get(event.getClass());
+        if (targets == null)
+            return;
+        List<Runnable> queue = held.get();
+        if (queue != null)
+            queue.add(() -> deliver(targets, event));
+        else
+            deliver(targets, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void deliver(Consumer<?>[] targets, GameEvent event) {
+        for (Consumer<?> target : targets)
+            ((Consumer<GameEvent>) target).accept(event);
+    }
+
+    /**
+     * Run a task, holding every event it publishes on this thread in a queue rather than
+     * delivering it. Work running in parallel, such as the ticks of several maps, can then have
+     * its events delivered afterwards, one thread at a time and in a fixed order, by running the
+     * queue.
+     *
+     * @param queue where to hold the events
+     * @param task  the task to run
+     */
+    public static void deferringTo(List<Runnable> queue, Runnable task) {
+        List<Runnable> previous = held.get();
+        held.set(queue);
+        try {
+            task.run();
+        } finally {
+            if (previous == null)
+                held.remove();
+            else
+                held.set(previous);
+        }
+    }
+}
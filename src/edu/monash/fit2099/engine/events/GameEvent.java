@@ -0,0 +1,7 @@
+package edu.monash.fit2099.engine.events;
+
+/**
+ * Something that happened to the state of the game, published on an {@link EventBus}.
+ */
+public interface GameEvent {
+}
@@ -0,0 +1,47 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * The Ground at a Location was replaced.
+ */
+public final class GroundChangedEvent implements GameEvent {
+    private final Location location;
+    private final Ground previous;
+    private final Ground current;
+
+    /**
+     * Constructor.
+     *
+     * @param location the Location
+     * @param previous the Ground it had before, or null if it had none
+     * @param current  the Ground it has now
+     */
+    public GroundChangedEvent(Location location, Ground previous, Ground current) {
+        this.location = location;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * @return the Location
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * @return the Ground it had before, or null if it had none
+     */
+    public Ground getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return the Ground it has now
+     */
+    public Ground getCurrent() {
+        return current;
+    }
+}
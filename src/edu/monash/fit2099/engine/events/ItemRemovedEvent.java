@@ -0,0 +1,37 @@
+package edu.monash.fit2099.engine.events;
+
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.Location;
+
+/**
+ * An Item was taken off the ground at a Location.
+ */
+public final class ItemRemovedEvent implements GameEvent {
+    private final Location location;
+    private final Item item;
+
+    /**
+     * Constructor.
+     *
+     * @param location where the Item was
+     * @param item     the Item
+     */
+    public ItemRemovedEvent(Location location, Item item) {
+        this.location = location;
+        this.item = item;
+    }
+
+    /**
+     * @return where the Item was
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * @return the Item
+     */
+    public Item getItem() {
+        return item;
+    }
+}
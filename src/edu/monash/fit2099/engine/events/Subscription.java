@@ -0,0 +1,12 @@
+package edu.monash.fit2099.engine.events;
+
+/**
+ * A listener's place on an {@link EventBus}, returned by {@link EventBus#subscribe(Class, java.util.function.Consumer)}.
+ */
+public interface Subscription {
+
+    /**
+     * Stop delivering events to the listener. Doing so more than once does nothing.
+     */
+    void cancel();
+}
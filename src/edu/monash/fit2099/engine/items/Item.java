@@ -6,6 +6,8 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 
 /**
  * Abstract base class representing a physical object in the game world.
@@ -135,4 +137,28 @@ public abstract class Item extends GameEntity implements Printable {
 	public ActionList allowableActions(Actor otherActor, Location location){
 		return new ActionList();
 	}
+
+	/**
+	 * Write this Item's capabilities, display character and portability to a snapshot.
+	 *
+	 * @param out the writer to write to
+	 */
+	@Override
+	public void writeSnapshot(SnapshotWriter out) {
+		super.writeSnapshot(out);
+		out.writeChar(displayChar);
+		out.writeBoolean(portable);
+	}
+
+	/**
+	 * Restore this Item's capabilities, display character and portability from a snapshot.
+	 *
+	 * @param in the reader to read from
+	 */
+	@Override
+	public void readSnapshot(SnapshotReader in) {
+		super.readSnapshot(in);
+		displayChar = in.readChar();
+		portable = in.readBoolean();
+	}
 }
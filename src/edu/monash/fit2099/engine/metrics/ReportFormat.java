@@ -0,0 +1,73 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.util.List;
+
+/**
+ * How a {@link TurnMetrics} report is written out. Every format has one row per class per
+ * Section, slowest total first, with times in nanoseconds. Percentiles are upper bounds to
+ * within a factor of two, and allocations are -1 where the JVM cannot measure them.
+ */
+public enum ReportFormat {
+    /**
+     * Aligned columns for reading in a terminal or log.
+     */
+    TEXT {
+        @Override
+        String format(List<ReportRow> rows) {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("%-13s %-60s %10s %14s %10s %10s %10s %12s %14s%n",
+                    "section", "class", "calls", "total ns", "mean ns", "p50 ns", "p99 ns", "max ns", "alloc bytes"));
+            for (ReportRow row : rows) {
+                out.append(String.format("%-13s %-60s %10d %14d %10d %10d %10d %12d %14d%n",
+                        row.section, row.type, row.calls, row.totalNanos, row.meanNanos,
+                        row.p50Nanos, row.p99Nanos, row.maxNanos, row.allocatedBytes));
+            }
+            return out.toString();
+        }
+    },
+    /**
+     * Comma-separated values with a header line.
+     */
+    CSV {
+        @Override
+        String format(List<ReportRow> rows) {
+            StringBuilder out = new StringBuilder("section,class,calls,total_ns,mean_ns,p50_ns,p99_ns,max_ns,alloc_bytes\n");
+            for (ReportRow row : rows) {
+                out.append(row.section).append(',').append(row.type).append(',')
+                        .append(row.calls).append(',').append(row.totalNanos).append(',')
+                        .append(row.meanNanos).append(',').append(row.p50Nanos).append(',')
+                        .append(row.p99Nanos).append(',').append(row.maxNanos).append(',')
+                        .append(row.allocatedBytes).append('\n');
+            }
+            return out.toString();
+        }
+    },
+    /**
+     * A JSON array with one object per row.
+     */
+    JSON {
+        @Override
+        String format(List<ReportRow> rows) {
+            StringBuilder out = new StringBuilder("[");
+            for (int i = 0; i < rows.size(); i++) {
+                ReportRow row = rows.get(i);
+                if (i > 0)
+                    out.append(',');
+                // Class names never need escaping
+                out.append("\n  {\"section\":\"").append(row.section)
+                        .append("\",\"class\":\"").append(row.type)
+                        .append("\",\"calls\":").append(row.calls)
+                        .append(",\"totalNanos\":").append(row.totalNanos)
+                        .append(",\"meanNanos\":").append(row.meanNanos)
+                        .append(",\"p50Nanos\":").append(row.p50Nanos)
+                        .append(",\"p99Nanos\":").append(row.p99Nanos)
+                        .append(",\"maxNanos\":").append(row.maxNanos)
+                        .append(",\"allocatedBytes\":").append(row.allocatedBytes)
+                        .append('}');
+            }
+            return out.append(rows.isEmpty() ? "]\n" : "\n]\n").toString();
+        }
+    };
+
+    abstract String format(List<ReportRow> rows);
+}
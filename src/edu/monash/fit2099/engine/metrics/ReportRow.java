@@ -0,0 +1,28 @@
+package edu.monash.fit2099.engine.metrics;
+
+/**
+ * One line of a {@link TurnMetrics} report: what was recorded for one class in one Section.
+ */
+final class ReportRow {
+    final Section section;
+    final String type;
+    final long calls;
+    final long totalNanos;
+    final long meanNanos;
+    final long p50Nanos;
+    final long p99Nanos;
+    final long maxNanos;
+    final long allocatedBytes;
+
+    ReportRow(Section section, Class<?> type, SectionStats stats, boolean allocationsMeasured) {
+        this.section = section;
+        this.type = type.getName();
+        this.calls = stats.calls();
+        this.totalNanos = stats.totalNanos();
+        this.meanNanos = calls == 0 ? 0 : totalNanos / calls;
+        this.p50Nanos = stats.percentileNanos(0.5);
+        this.p99Nanos = stats.percentileNanos(0.99);
+        this.maxNanos = stats.maxNanos();
+        this.allocatedBytes = allocationsMeasured ? stats.allocatedBytes() : -1;
+    }
+}
@@ -0,0 +1,27 @@
+package edu.monash.fit2099.engine.metrics;
+
+/**
+ * The parts of a turn that {@link TurnMetrics} can time.
+ */
+public enum Section {
+    /**
+     * One Actor's whole turn, from choosing an Action to executing it, by class of Actor.
+     */
+    ACTOR_TURN,
+    /**
+     * Ticking one GameMap, including its Locations and the Items and effects its Actors hold, by class of map.
+     */
+    MAP_TICK,
+    /**
+     * Ticking one Location and the Items on it, by class of Ground.
+     */
+    LOCATION_TICK,
+    /**
+     * Asking a Behaviour for an Action, by class of Behaviour.
+     */
+    BEHAVIOUR,
+    /**
+     * Executing an Action, by class of Action.
+     */
+    ACTION
+}
@@ -0,0 +1,189 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Times the hot parts of each turn: Actor turns, map and Location ticks, Behaviours and Actions.
+ * <p>
+ * Off by default. The engine brackets each part like this:
+ * <pre>
+ *     long started = TurnMetrics.start();
+ *     try {
+ *         ...
+ *     } finally {
+ *         TurnMetrics.stop(Section.ACTION, action.getClass(), started);
+ *     }
+ * </pre>
+ * While off, {@code start} returns 0 after reading one flag and {@code stop} does nothing, so
+ * the brackets can stay in place. While on, each part records its time, into a histogram for
+ * its class and Section, and an estimate of the bytes the thread allocated meanwhile, where
+ * the JVM can measure that. Parts nest, so an Actor's turn includes its Behaviours and Action.
+ * <p>
+ * {@link #report(ReportFormat)} writes out everything recorded so far, and
+ * {@link #reportEvery(int, ReportFormat, Consumer)} has the World do so every so many turns.
+ */
+public final class TurnMetrics {
+
+    private static volatile boolean enabled;
+
+    /**
+     * The stats for each class, by Section. Filled in once, so only the inner maps change.
+     */
+    private static final Map<Section, Map<Class<?>, SectionStats>> STATS = new EnumMap<>(Section.class);
+
+    static {
+        for (Section section : Section.values())
+            STATS.put(section, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Measures bytes allocated by the current thread, or null if this JVM cannot.
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationCounter();
+
+    /**
+     * The bytes allocated by this thread when each open part started, innermost last.
+     */
+    private static final ThreadLocal<long[]> OPEN_PARTS = ThreadLocal.withInitial(() -> new long[9]);
+
+    private static int reportInterval;
+    private static ReportFormat reportFormat;
+    private static Consumer<String> reportSink;
+    private static long turns;
+
+    private TurnMetrics() {
+    }
+
+    /**
+     * Turn recording on or off. Recordings made so far are kept either way.
+     *
+     * @param on true to record
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * @return true if recording
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Mark the start of a part of a turn.
+     *
+     * @return a start time to pass to {@link #stop(Section, Class, long)}, or 0 if not recording
+     */
+    public static long start() {
+        if (!enabled)
+            return 0;
+        if (ALLOCATIONS != null) {
+            long[] open = OPEN_PARTS.get();
+            int depth = (int) open[0] + 1;
+            if (depth == open.length) {
+                open = Arrays.copyOf(open, open.length * 2);
+                OPEN_PARTS.set(open);
+            }
+            open[depth] = ALLOCATIONS.getCurrentThreadAllocatedBytes();
+            open[0] = depth;
+        }
+        long now = System.nanoTime();
+        return now == 0 ? 1 : now;
+    }
+
+    /**
+     * Mark the end of a part of a turn and record it.
+     *
+     * @param section which part it was
+     * @param type    the class to record it under, e.g. the class of the Action executed
+     * @param started what {@link #start()} returned
+     */
+    public static void stop(Section section, Class<?> type, long started) {
+        if (started == 0)
+            return;
+        long nanos = System.nanoTime() - started;
+        long bytes = 0;
+        if (ALLOCATIONS != null) {
+            long[] open = OPEN_PARTS.get();
+            int depth = (int) open[0];
+            bytes = ALLOCATIONS.getCurrentThreadAllocatedBytes() - open[depth];
+            open[0] = depth - 1;
+        }
+        STATS.get(section).computeIfAbsent(type, t -> new SectionStats()).record(nanos, bytes);
+    }
+
+    /**
+     * Write out everything recorded since the last {@link #reset()}.
+     *
+     * @param format how to write it
+     * @return the report
+     */
+    public static String report(ReportFormat format) {
+        List<ReportRow> rows = new ArrayList<>();
+        for (Section section : Section.values()) {
+            for (Map.Entry<Class<?>, SectionStats> entry : STATS.get(section).entrySet())
+                rows.add(new ReportRow(section, entry.getKey(), entry.getValue(), ALLOCATIONS != null));
+        }
+        rows.sort(Comparator.comparingLong((ReportRow row) -> row.totalNanos).reversed());
+        return format.format(rows);
+    }
+
+    /**
+     * Forget everything recorded so far.
+     */
+    public static void reset() {
+        for (Map<Class<?>, SectionStats> stats : STATS.values())
+            stats.clear();
+    }
+
+    /**
+     * Have a report written every so many turns while recording.
+     *
+     * @param interval how many turns between reports, or 0 for none
+     * @param format   how to write the reports
+     * @param sink     where to send them, e.g. a Display or a file
+     */
+    public static synchronized void reportEvery(int interval, ReportFormat format, Consumer<String> sink) {
+        if (interval < 0)
+            throw new IllegalArgumentException("Interval cannot be negative");
+        reportInterval = interval;
+        reportFormat = interval == 0 ? null : Objects.requireNonNull(format);
+        reportSink = interval == 0 ? null : Objects.requireNonNull(sink);
+        turns = 0;
+    }
+
+    /**
+     * Called by the World at the end of every turn, to write the periodic report when one is due.
+     */
+    public static void turnEnded() {
+        if (!enabled)
+            return;
+        synchronized (TurnMetrics.class) {
+            if (reportInterval > 0 && ++turns % reportInterval == 0)
+                reportSink.accept(report(reportFormat));
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            // No allocation estimates on this JVM
+        }
+        return null;
+    }
+}
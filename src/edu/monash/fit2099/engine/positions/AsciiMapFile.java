@@ -0,0 +1,118 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An ASCII map file, memory-mapped rather than read into Strings.
+ * <p>
+ * Opening a file makes a single pass over its bytes to find where each row starts and to
+ * check that every row is the same width, so only one int per row is kept on the heap.
+ * Ground characters are then read straight out of the mapped buffer. Rows may end in
+ * either "\n" or "\r\n", and the last row may or may not have a line ending.
+ */
+public final class AsciiMapFile {
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int[] rowStarts;
+    private final int width;
+
+    private AsciiMapFile(Path path, MappedByteBuffer buffer, int[] rowStarts, int width) {
+        this.path = path;
+        this.buffer = buffer;
+        this.rowStarts = rowStarts;
+        this.width = width;
+    }
+
+    /**
+     * Map a file into memory and check its shape.
+     *
+     * @param path the file to open
+     * @return the mapped file
+     * @throws IOException              if the file cannot be read, or is too large to map
+     * @throws IllegalArgumentException if the file is empty, its rows are not all the same
+     *                                  width, or it contains a character that is not ASCII
+     */
+    public static AsciiMapFile open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Map file too large to map: " + path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int limit = buffer.limit();
+        int[] rowStarts = new int[16];
+        int height = 0;
+        int width = -1;
+        int rowStart = 0;
+        while (rowStart < limit) {
+            int end = rowStart;
+            byte b;
+            while (end < limit && (b = buffer.get(end)) != '\n') {
+                if (b < 0)
+                    throw new IllegalArgumentException(path + ": non-ASCII character at row " + height
+                            + ", column " + (end - rowStart));
+                end++;
+            }
+            int rowEnd = end;
+            if (rowEnd > rowStart && buffer.get(rowEnd - 1) == '\r')
+                rowEnd--;
+
+            int length = rowEnd - rowStart;
+            if (width < 0)
+                width = length;
+            else if (length != width)
+                throw new IllegalArgumentException(path + ": row " + height + " has " + length
+                        + " characters, expected " + width);
+
+            if (height == rowStarts.length)
+                rowStarts = Arrays.copyOf(rowStarts, height * 2);
+            rowStarts[height++] = rowStart;
+            rowStart = end + 1;
+        }
+        if (width <= 0)
+            throw new IllegalArgumentException(path + ": map is empty");
+
+        return new AsciiMapFile(path, buffer, Arrays.copyOf(rowStarts, height), width);
+    }
+
+    /**
+     * @return the number of characters in each row
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int height() {
+        return rowStarts.length;
+    }
+
+    /**
+     * Returns the ground character at the given coordinates.
+     *
+     * @param x X coordinate, 0 at the left
+     * @param y Y coordinate, 0 at the top
+     * @return the character
+     * @throws IndexOutOfBoundsException if the coordinates are outside the map
+     */
+    public char charAt(int x, int y) {
+        if (x < 0 || x >= width)
+            throw new IndexOutOfBoundsException("x " + x + " outside " + path);
+        return (char) buffer.get(rowStarts[y] + x);
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + width + "x" + height() + ")";
+    }
+}
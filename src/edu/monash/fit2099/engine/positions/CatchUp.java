@@ -0,0 +1,22 @@
+package edu.monash.fit2099.engine.positions;
+
+/**
+ * Something on a dormant GameMap that can make up for the turns the map missed in one go,
+ * rather than being ticked, or taking its turn, once for each of them.
+ * <p>
+ * Ground, Items lying on the ground and Actors may implement it. When the World wakes a map
+ * that has missed turns, everything there that implements it is called once, Ground and Items
+ * first, then the Actors in turn order. For everything else on the map, time simply stood still.
+ *
+ * @see World#setDormancy(boolean)
+ */
+public interface CatchUp {
+
+    /**
+     * Make up for turns missed while the map was dormant.
+     *
+     * @param location where this is: the Location of the Ground, Item or Actor
+     * @param turns    the number of turns missed, at least 1
+     */
+    void catchUp(Location location, int turns);
+}
@@ -0,0 +1,397 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.snapshots.SnapshotRegistry;
+import edu.monash.fit2099.engine.snapshots.StandaloneSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A GameMap far larger than fits in memory, held as square chunks of Locations that are made
+ * when first needed and written to disk when they have not been used for a while.
+ * <p>
+ * A chunk is made the first time anything asks for one of its Locations, from a
+ * {@link Terrain} that says which ground character goes where, and is read back from the
+ * disk cache instead if it has been there before. Chunks with Actors in them, and the chunks
+ * around those, are always kept. Whenever more than the allowed number of chunks are in memory,
+ * the least recently used of the others have the Ground and Items of their Locations written to
+ * the cache directory, through the same codecs as a {@link edu.monash.fit2099.engine.snapshots.WorldSnapshot},
+ * and are dropped. This only happens at the start of a tick, so Locations handed out during a
+ * turn stay valid for the rest of it.
+ * <p>
+ * {@link #at(int, int)}, {@link Location#getExits()} and {@link #tick()} behave as they do on
+ * any GameMap for the chunks in memory. Time stops in chunks that have been written out: they
+ * pick up where they left off when read back. A chunk holding Ground or Items that cannot be
+ * written, such as a gate to another map, is kept in memory. {@link #draw(Display)} draws the
+ * part of the map around the first Actor on it, which is the player when the player is here.
+ */
+public class ChunkedGameMap extends GameMap {
+
+    /**
+     * Says which ground character goes at each place on a chunked map.
+     */
+    @FunctionalInterface
+    public interface Terrain {
+        /**
+         * @param x X coordinate
+         * @param y Y coordinate
+         * @return the character for the GroundFactory to make the Ground from
+         */
+        char groundCharAt(int x, int y);
+    }
+
+    private static final int DEFAULT_VIEW_WIDTH = 80;
+    private static final int DEFAULT_VIEW_HEIGHT = 25;
+
+    private final Terrain terrain;
+    private final int chunkSize;
+    private final int chunksAcross;
+    private final int maxLoadedChunks;
+    private final Path cacheDirectory;
+    private final SnapshotRegistry registry;
+
+    /**
+     * The chunks in memory, least recently used first.
+     */
+    private final LinkedHashMap<Long, Chunk> chunks = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int viewWidth = DEFAULT_VIEW_WIDTH;
+    private int viewHeight = DEFAULT_VIEW_HEIGHT;
+    private char[] frame;
+
+    /**
+     * Constructor.
+     *
+     * @param name            Name of the map
+     * @param groundFactory   Factory to create Ground objects
+     * @param terrain         which ground character goes where
+     * @param width           width of the map, in characters
+     * @param height          height of the map, in characters
+     * @param chunkSize       the width and height of each chunk, in characters
+     * @param maxLoadedChunks how many chunks to keep in memory, not counting those that must be kept
+     * @param cacheDirectory  where to write chunks that are not in memory; it is created if need be
+     * @param registry        the codecs for every type of Ground and Item that may be on the map
+     * @throws IllegalArgumentException if chunkSize or maxLoadedChunks is less than 1
+     */
+    public ChunkedGameMap(String name, GroundFactory groundFactory, Terrain terrain, int width, int height,
+                          int chunkSize, int maxLoadedChunks, Path cacheDirectory, SnapshotRegistry registry) {
+        super(name, groundFactory, width, height);
+        if (chunkSize < 1 || maxLoadedChunks < 1)
+            throw new IllegalArgumentException("Chunk size and chunk limit must be at least 1");
+        this.terrain = Objects.requireNonNull(terrain);
+        this.chunkSize = chunkSize;
+        this.chunksAcross = (width + chunkSize - 1) / chunkSize;
+        this.maxLoadedChunks = maxLoadedChunks;
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory);
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    /**
+     * Set how much of the map {@link #draw(Display)} shows.
+     *
+     * @param width  the width drawn, in characters
+     * @param height the height drawn, in characters
+     */
+    public void setViewport(int width, int height) {
+        if (width < 1 || height < 1)
+            throw new IllegalArgumentException();
+        this.viewWidth = width;
+        this.viewHeight = height;
+    }
+
+    /**
+     * @return the number of chunks in memory
+     */
+    public synchronized int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    @Override
+    public Location at(int x, int y) {
+        if (!widths.contains(x) || !heights.contains(y))
+            throw new ArrayIndexOutOfBoundsException("(" + x + ", " + y + ") is outside " + this);
+        Chunk chunk = chunkAt(x, y, true);
+        return chunk.locations[chunk.indexOf(x, y)];
+    }
+
+    @Override
+    protected Actor occupantAt(int x, int y) {
+        // A chunk that is not in memory has nobody in it
+        Chunk chunk = chunkAt(x, y, false);
+        return chunk == null ? null : chunk.occupants[chunk.indexOf(x, y)];
+    }
+
+    @Override
+    protected void setOccupant(int x, int y, Actor actor) {
+        Chunk chunk = chunkAt(x, y, true);
+        int index = chunk.indexOf(x, y);
+        Actor previous = chunk.occupants[index];
+        chunk.occupants[index] = actor;
+        synchronized (this) {
+            chunk.actorCount += (actor != null ? 1 : 0) - (previous != null ? 1 : 0);
+        }
+    }
+
+    @Override
+    protected PathFinder createPathFinder() {
+        return new PathFinder(this, chunkSize);
+    }
+
+    @Override
+    public boolean isStreamed() {
+        return true;
+    }
+
+    /**
+     * Write out cold chunks, then tick the chunks in memory.
+     */
+    @Override
+    void tick(List<Actor> actorsHere) {
+        evictColdChunks();
+        super.tick(actorsHere);
+    }
+
+    /**
+     * Draws the part of the map around the first Actor on it, as set by {@link #setViewport(int, int)}.
+     *
+     * @param display Display that will draw the state of the game
+     */
+    @Override
+    public void draw(Display display) {
+        Location centre = null;
+        for (Actor actor : actorLocations) {
+            if (contains(actor)) {
+                centre = locationOf(actor);
+                break;
+            }
+        }
+        int width = Math.min(viewWidth, widths.size());
+        int height = Math.min(viewHeight, heights.size());
+        int left = centre == null ? 0 : clamp(centre.x() - width / 2, 0, widths.size() - width);
+        int top = centre == null ? 0 : clamp(centre.y() - height / 2, 0, heights.size() - height);
+        if (frame == null || frame.length != width * height)
+            frame = new char[width * height];
+
+        int index = 0;
+        for (int y = top; y < top + height; y++) {
+            for (int x = left; x < left + width; x++) {
+                frame[index++] = at(x, y).getDisplayChar();
+            }
+        }
+        renderer.render(frame, width, height, display);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    private long keyOf(int chunkX, int chunkY) {
+        return (long) chunkY * chunksAcross + chunkX;
+    }
+
+    /**
+     * @return the chunk at the given chunk coordinates, or null if it is not in memory
+     */
+    private Chunk loadedChunk(int chunkX, int chunkY) {
+        if (chunkX < 0 || chunkY < 0 || chunkX >= chunksAcross || chunkY * chunkSize >= heights.size())
+            return null;
+        return chunks.get(keyOf(chunkX, chunkY));
+    }
+
+    private synchronized Chunk chunkAt(int x, int y, boolean load) {
+        int chunkX = x / chunkSize;
+        int chunkY = y / chunkSize;
+        long key = keyOf(chunkX, chunkY);
+        Chunk chunk = chunks.get(key);
+        if (chunk == null && load) {
+            chunk = new Chunk(chunkX, chunkY);
+            chunks.put(key, chunk);
+            load(chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Fill a new chunk's Locations, from the cache if it has been written out before and from
+     * the terrain if not. Grounds read back are swapped for the shared ones where they can be.
+     * Loading is not a change to the map, so cached paths stay valid and no events are published.
+     */
+    private void load(Chunk chunk) {
+        for (int y = chunk.top; y < chunk.top + chunk.height; y++) {
+            for (int x = chunk.left; x < chunk.left + chunk.width; x++) {
+                chunk.locations[chunk.indexOf(x, y)] = makeNewLocation(x, y);
+            }
+        }
+        Path file = fileOf(chunk);
+        if (Files.exists(file)) {
+            ByteBuffer bytes;
+            try {
+                bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read chunk " + file, e);
+            }
+            StandaloneSnapshot.decode(registry, List.of(this), bytes, in -> {
+                for (Location location : chunk.locations) {
+                    Ground ground = SharedGrounds.share(in.readObject(Ground.class));
+                    location.fill(ground, in.readObjects(Item.class));
+                }
+            });
+        } else {
+            for (Location location : chunk.locations) {
+                location.fill(groundFactory.newGround(terrain.groundCharAt(location.x(), location.y())), List.of());
+            }
+        }
+    }
+
+    /**
+     * Write out and drop the least recently used chunks, as long as there are too many in
+     * memory, skipping those that must be kept.
+     */
+    private synchronized void evictColdChunks() {
+        if (chunks.size() <= maxLoadedChunks)
+            return;
+        Iterator<Chunk> candidates = new ArrayList<>(chunks.values()).iterator();
+        boolean evicted = false;
+        while (chunks.size() > maxLoadedChunks && candidates.hasNext()) {
+            Chunk chunk = candidates.next();
+            if (chunk.pinned || isNearActors(chunk))
+                continue;
+            if (!save(chunk)) {
+                chunk.pinned = true;
+                continue;
+            }
+            chunks.remove(keyOf(chunk.chunkX, chunk.chunkY));
+            for (Location location : chunk.locations)
+                forgetLocation(location);
+            forgetNeighbouringExits(chunk);
+            evicted = true;
+        }
+        // Cached paths and flow fields may run through the Locations just dropped
+        if (evicted)
+            groundChanged();
+    }
+
+    /**
+     * @return true if the chunk or one of the chunks around it has an Actor in it
+     */
+    private boolean isNearActors(Chunk chunk) {
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                Chunk neighbour = loadedChunk(chunk.chunkX + dx, chunk.chunkY + dy);
+                if (neighbour != null && neighbour.actorCount > 0)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write a chunk's Ground and Items to its cache file.
+     *
+     * @return false if something in the chunk cannot be written
+     */
+    private boolean save(Chunk chunk) {
+        ByteBuffer bytes;
+        try {
+            bytes = StandaloneSnapshot.encode(registry, List.of(this), out -> {
+                for (Location location : chunk.locations) {
+                    out.writeObject(location.getGround());
+                    out.writeObjects(location.getItems());
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        Path file = fileOf(chunk);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bytes.hasRemaining())
+                    channel.write(bytes);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write chunk " + file, e);
+        }
+        return true;
+    }
+
+    /**
+     * Locations next to a chunk that has just been dropped may have exits to its Locations,
+     * so they have to make their exits again.
+     */
+    private void forgetNeighbouringExits(Chunk chunk) {
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (dx == 0 && dy == 0)
+                    continue;
+                Chunk neighbour = loadedChunk(chunk.chunkX + dx, chunk.chunkY + dy);
+                if (neighbour == null)
+                    continue;
+                for (Location location : neighbour.locations) {
+                    if (location != null && isNextTo(location, chunk))
+                        location.forgetExits();
+                }
+            }
+        }
+    }
+
+    private static boolean isNextTo(Location location, Chunk chunk) {
+        return location.x() >= chunk.left - 1 && location.x() <= chunk.left + chunk.width
+                && location.y() >= chunk.top - 1 && location.y() <= chunk.top + chunk.height;
+    }
+
+    private Path fileOf(Chunk chunk) {
+        return cacheDirectory.resolve("chunk-" + chunk.chunkX + "-" + chunk.chunkY + ".bin");
+    }
+
+    /**
+     * One square of Locations, and the Actors standing on them.
+     */
+    private final class Chunk {
+        final int chunkX;
+        final int chunkY;
+        final int left;
+        final int top;
+        final int width;
+        final int height;
+        final Location[] locations;
+        final Actor[] occupants;
+        int actorCount;
+        /**
+         * True if the chunk holds something that cannot be written out, so it stays in memory.
+         */
+        boolean pinned;
+
+        Chunk(int chunkX, int chunkY) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.left = chunkX * chunkSize;
+            this.top = chunkY * chunkSize;
+            this.width = Math.min(chunkSize, widths.size() - left);
+            this.height = Math.min(chunkSize, heights.size() - top);
+            this.locations = new Location[width * height];
+            this.occupants = new Actor[width * height];
+        }
+
+        int indexOf(int x, int y) {
+            return (y - top) * width + (x - left);
+        }
+    }
+}
@@ -7,11 +7,20 @@ import java.util.Map;
 /**
  * Class that can create different types of Ground based on the character that
  * represents it.
+ *
+ * By default every call makes a new Ground. A factory made with
+ * {@link #withSharedGrounds(Ground...)} instead hands out the one {@link SharedGrounds}
+ * object for each stateless type, and only builds new objects for {@link StatefulGround}s.
  */
 public class FancyGroundFactory implements GroundFactory {
 
 	private Map<Character, Constructor<? extends Ground>> map = new HashMap<>();
 
+	/**
+	 * Shared Grounds, indexed by display character. Empty unless sharing is on.
+	 */
+	private final Map<Character, Ground> shared = new HashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -37,13 +46,34 @@ public class FancyGroundFactory implements GroundFactory {
 	}
 
 	/**
-	 * Given a character, returns a new instance of the Ground type represented by it.
+	 * Create a factory that shares one object between every tile of each stateless Ground type.
+	 * The shared objects are looked up once, here, so making a stateless Ground afterwards is
+	 * a single lookup with no reflection.
+	 *
+	 * @param groundTypes A collection of all types of ground required for a GameMap
+	 * @return the factory
+	 */
+	public static FancyGroundFactory withSharedGrounds(Ground... groundTypes) {
+		FancyGroundFactory factory = new FancyGroundFactory(groundTypes);
+		for (Ground ground : groundTypes) {
+			if (SharedGrounds.isShareable(ground.getClass()))
+				factory.shared.put(ground.getDisplayChar(), SharedGrounds.get(ground.getClass()));
+		}
+		return factory;
+	}
+
+	/**
+	 * Given a character, returns an instance of the Ground type represented by it.
+	 * The instance is a new one unless this factory shares stateless Grounds.
 	 *
 	 * @param displayChar character that represents this Ground in the UI
 	 * @return an instance of a concrete subclass of Ground
 	 */
 	@Override
 	public Ground newGround(char displayChar) {
+		Ground ground = shared.get(displayChar);
+		if (ground != null)
+			return ground;
 		try {
 			return map.get(displayChar).newInstance();
 		} catch (Exception e) {
@@ -51,4 +81,4 @@ public class FancyGroundFactory implements GroundFactory {
 		}
 		return null;
 	}
-}
\ No newline at end of file
+}
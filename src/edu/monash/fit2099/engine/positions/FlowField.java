@@ -0,0 +1,183 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * How far every Location around a target Actor is from it, for any number of Actors heading
+ * towards the same target.
+ * <p>
+ * The distances are found with Dijkstra's algorithm outwards from the target, over the map's
+ * Exits, with a straight step costing 10 and a diagonal one 14 as in {@link PathFinder}. They
+ * are worked out again the first time the field is used after the target has moved or any
+ * Ground on the map has changed, so a crowd following the same target costs one search per
+ * turn between them. Only Locations within {@link #getRadius()} steps of the target
+ * are covered, which keeps that search small on a large map.
+ * <p>
+ * A field is made for one class of walker, and whether Ground can be entered is checked for
+ * whichever walker of that class is using it when the distances are worked out. Every Actor of
+ * the class is taken to be able to enter the same Ground, so fields are shared between them.
+ * A field does not hold on to any walker. Get one with {@link GameMap#getFlowField(Actor, Actor)}.
+ */
+public class FlowField {
+
+    /**
+     * How far from the target a field reaches unless asked otherwise.
+     */
+    public static final int DEFAULT_RADIUS = 32;
+
+    private static final int UNKNOWN = -1;
+
+    private final GameMap map;
+    private final Actor target;
+    private final Class<? extends Actor> walkerType;
+    private final int radius;
+
+    /**
+     * Distances within the square of side 2 * radius + 1 around where the target was, by
+     * (y - top) * side + (x - left). UNKNOWN if too far or unreachable.
+     */
+    private final int[] distances;
+    private final int side;
+    private int left;
+    private int top;
+
+    private final boolean[] done;
+    private final IndexHeap open = new IndexHeap();
+
+    private Location targetLocation;
+    private long groundVersion = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param map    the map the target is on
+     * @param target the Actor to head towards
+     * @param walkerType the class of the Actors that will use the field
+     * @param radius     how many steps from the target the field reaches
+     * @throws IllegalArgumentException if radius is less than 1
+     */
+    public FlowField(GameMap map, Actor target, Class<? extends Actor> walkerType, int radius) {
+        if (radius < 1)
+            throw new IllegalArgumentException("Radius must be at least 1");
+        this.map = Objects.requireNonNull(map);
+        this.target = Objects.requireNonNull(target);
+        this.walkerType = Objects.requireNonNull(walkerType);
+        this.radius = radius;
+        this.side = 2 * radius + 1;
+        this.distances = new int[side * side];
+        this.done = new boolean[side * side];
+    }
+
+    /**
+     * @return the Actor this field leads towards
+     */
+    public Actor getTarget() {
+        return target;
+    }
+
+    /**
+     * @return how many steps from the target this field reaches
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Find the Exit that leads an Actor closest to the target, among those it can take now.
+     *
+     * @param actor the Actor that will move
+     * @param from  where the Actor is
+     * @return the Exit to take, or null if the Actor is out of the field's reach, cannot get
+     * any closer this turn, or is next to the target already
+     */
+    public Exit nextStep(Actor actor, Location from) {
+        int best = distanceTo(actor, from);
+        if (best == UNKNOWN)
+            return null;
+        Exit bestExit = null;
+        for (Exit exit : from.getExits()) {
+            Location destination = exit.getDestination();
+            int distance = distanceTo(actor, destination);
+            if (distance != UNKNOWN && distance < best && destination.canActorEnter(actor)) {
+                best = distance;
+                bestExit = exit;
+            }
+        }
+        return bestExit;
+    }
+
+    /**
+     * Returns the length of a shortest path from a Location to the target, in tenths of a
+     * straight step.
+     *
+     * @param walker   the Actor that would walk it, of the class the field was made for
+     * @param location where to measure from
+     * @return the distance, or -1 if the Location is out of reach
+     * @throws IllegalArgumentException if the walker is not of the class the field was made for
+     */
+    public synchronized int distanceTo(Actor walker, Location location) {
+        if (walker.getClass() != walkerType)
+            throw new IllegalArgumentException("Field is for " + walkerType.getName() + ", not " + walker.getClass().getName());
+        refresh(walker);
+        if (targetLocation == null || location.map() != map)
+            return UNKNOWN;
+        int i = indexOf(location.x(), location.y());
+        return i < 0 ? UNKNOWN : distances[i];
+    }
+
+    /**
+     * Work the distances out again if the target has moved or Ground has changed since last time.
+     */
+    private void refresh(Actor walker) {
+        Location now = map.contains(target) ? map.locationOf(target) : null;
+        long version = map.getGroundVersion();
+        if (now == targetLocation && version == groundVersion)
+            return;
+        targetLocation = now;
+        groundVersion = version;
+        Arrays.fill(distances, UNKNOWN);
+        if (now == null)
+            return;
+
+        left = now.x() - radius;
+        top = now.y() - radius;
+        open.clear();
+        int start = indexOf(now.x(), now.y());
+        distances[start] = 0;
+        open.push(start, 0);
+        Arrays.fill(done, false);
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (done[current])
+                continue;
+            done[current] = true;
+
+            Location here = map.at(left + current % side, top + current / side);
+            for (Exit exit : here.getExits()) {
+                Location there = exit.getDestination();
+                if (there.map() != map)
+                    continue;
+                int next = indexOf(there.x(), there.y());
+                if (next < 0 || done[next] || !there.getGround().canActorEnter(walker))
+                    continue;
+                boolean diagonal = there.x() != here.x() && there.y() != here.y();
+                int distance = distances[current] + (diagonal ? PathFinder.DIAGONAL : PathFinder.STRAIGHT);
+                if (distances[next] == UNKNOWN || distance < distances[next]) {
+                    distances[next] = distance;
+                    open.push(next, distance);
+                }
+            }
+        }
+    }
+
+    private int indexOf(int x, int y) {
+        int dx = x - left;
+        int dy = y - top;
+        if (dx < 0 || dy < 0 || dx >= side || dy >= side)
+            return -1;
+        return dy * side + dx;
+    }
+}
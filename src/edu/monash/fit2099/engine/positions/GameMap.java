@@ -1,17 +1,31 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.actors.StatusEffect;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.FrameRenderer;
+import edu.monash.fit2099.engine.events.ActorAddedEvent;
+import edu.monash.fit2099.engine.events.ActorMovedEvent;
+import edu.monash.fit2099.engine.events.ActorRemovedEvent;
+import edu.monash.fit2099.engine.events.EventBus;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.Section;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 /**
  * Class representing one map within the system.
@@ -25,12 +39,94 @@ import java.util.Objects;
  */
 public class GameMap {
 
+    /**
+     * The eight directions out of a Location, in the order their Exits are listed: name,
+     * hotkey, and the step in x and y.
+     */
+    private static final String[] DIRECTION_NAMES =
+            {"North", "North-East", "East", "South-East", "South", "South-West", "West", "North-West"};
+    private static final String[] DIRECTION_HOTKEYS = {"8", "9", "6", "3", "2", "1", "4", "7"};
+    private static final int[] DIRECTION_DX = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DIRECTION_DY = {-1, -1, 0, 1, 1, 1, 0, -1};
+
     protected NumberRange heights;
     protected NumberRange widths;
     protected Location[][] map;
     protected ActorLocationsIterator actorLocations;
     protected GroundFactory groundFactory;
     protected String name;
+    protected FrameRenderer renderer = new FrameRenderer();
+
+    /**
+     * The Actor standing on each Location, indexed by y * width + x. Kept in step with
+     * actorLocations by addActor, moveActor and removeActor.
+     */
+    private Actor[] occupants;
+
+    /**
+     * This map's own random stream, split from the game's seed.
+     */
+    private final RandomGenerator random = GameRandom.split();
+
+    /**
+     * The last frame drawn, reused from turn to turn.
+     */
+    private char[] frame;
+
+    /**
+     * Where this map, its Locations and its Actors publish events. Replaced by the World's
+     * bus when the map is added to a World.
+     */
+    private EventBus events = new EventBus();
+
+    /**
+     * Counts changes of Ground anywhere on this map.
+     */
+    private volatile long groundVersion;
+
+    /**
+     * Finds paths on this map, created the first time it is asked for.
+     */
+    private PathFinder pathFinder;
+
+    /**
+     * The FlowFields leading to each target Actor, one per class of walker. Dropped when the
+     * target leaves this map.
+     */
+    private final Map<Actor, Map<Class<? extends Actor>, FlowField>> flowFields = new HashMap<>();
+
+    /**
+     * The map being ticked on this thread during a parallel tick, if any.
+     */
+    private static final ThreadLocal<GameMap> tickingMap = new ThreadLocal<>();
+
+    /**
+     * Changes to where Actors are, made during a parallel tick of this map and held back
+     * until every map has finished ticking. Null when no parallel tick is under way.
+     */
+    private List<Runnable> deferredActorChanges;
+
+    /**
+     * Where Actors created during a parallel tick of this map get their random streams.
+     * Split from the game's seed the first time this map is ticked in parallel.
+     */
+    private SplittableRandom parallelTickSplits;
+
+    /**
+     * True while the World has suspended this map, see {@link World#setDormancy(boolean)}.
+     */
+    private boolean dormant;
+
+    /**
+     * The number of turns missed since this map became dormant.
+     */
+    private int missedTurns;
+
+    /**
+     * Locations whose Ground or Items do something when ticked, in row order.
+     */
+    private final NavigableSet<Location> activeLocations = new TreeSet<>(
+            Comparator.comparingInt(Location::y).thenComparingInt(Location::x));
 
     /**
      * Constructor.
@@ -50,13 +146,34 @@ public class GameMap {
         this.groundFactory = groundFactory;
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = widths.min(); x <= widths.max(); x++) {
+            for (int y = heights.min(); y <= heights.max(); y++) {
                 at(x, y).setGround(groundFactory.newGround(groundChar));
             }
         }
     }
 
+    /**
+     * Constructor for maps that make their Locations some other way, e.g. only when they are
+     * needed. Sets the size of the map but makes no Locations, so a subclass using it must
+     * override {@link #at(int, int)}, {@link #occupantAt(int, int)}, {@link #setOccupant(int, int, Actor)}
+     * and {@link #draw(Display)}.
+     *
+     * @param name          Name of the map
+     * @param groundFactory Factory to create Ground objects
+     * @param width         width of the GameMap, in characters
+     * @param height        height of the GameMap, in characters
+     */
+    protected GameMap(String name, GroundFactory groundFactory, int width, int height) {
+        Objects.requireNonNull(groundFactory);
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException();
+        this.name = name;
+        this.groundFactory = groundFactory;
+        this.widths = new NumberRange(0, width);
+        this.heights = new NumberRange(0, height);
+    }
+
     /**
      * Constructor that creates a map from a sequence of ASCII strings.
      *
@@ -75,14 +192,22 @@ public class GameMap {
 
     /**
      * Constructor that reads a map from file.
+     * <p>
+     * The file is memory-mapped and decoded straight into the Location grid, so even very
+     * large maps are loaded without building a String for every row.
      *
      * @param groundFactory Factory to create Ground objects
      * @param mapFile       Name of a file containing an ASCII representation of a
      *                      level
-     * @throws IOException when file I/O fails
+     * @throws IOException              when file I/O fails
+     * @throws IllegalArgumentException if the file is empty, ragged or not ASCII
      */
     public GameMap(String name, GroundFactory groundFactory, String mapFile) throws IOException {
-        this(name, groundFactory, Files.readAllLines(Paths.get(mapFile)));
+        Objects.requireNonNull(groundFactory);
+
+        this.name = name;
+        this.groundFactory = groundFactory;
+        createMapFromFile(groundFactory, AsciiMapFile.open(Paths.get(mapFile)));
     }
 
     /**
@@ -96,14 +221,30 @@ public class GameMap {
         int height = lines.size();
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = widths.min(); x <= widths.max(); x++) {
+            for (int y = heights.min(); y <= heights.max(); y++) {
                 char groundChar = lines.get(y).charAt(x);
                 at(x, y).setGround(groundFactory.newGround(groundChar));
             }
         }
     }
 
+    /**
+     * Create a map from a memory-mapped ASCII file, a row at a time.
+     *
+     * @param groundFactory Factory to create Ground objects
+     * @param file          the mapped file
+     */
+    private void createMapFromFile(GroundFactory groundFactory, AsciiMapFile file) {
+        initMap(file.width(), file.height());
+
+        for (int y = heights.min(); y <= heights.max(); y++) {
+            for (int x = widths.min(); x <= widths.max(); x++) {
+                at(x, y).setGround(groundFactory.newGround(file.charAt(x, y)));
+            }
+        }
+    }
+
     /**
      * Initialize the map.
      *
@@ -114,25 +255,27 @@ public class GameMap {
         widths = new NumberRange(0, width);
         heights = new NumberRange(0, height);
         map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
+        occupants = new Actor[width * height];
         // First arg is across, second down
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 map[x][y] = makeNewLocation(x, y);
             }
         }
+        // Exits are not made here: each Location asks for its own, with addExits, the first
+        // time they are needed. Most Locations on a large map never are.
+    }
 
-        for (int x : widths) {
-            for (int y : heights) {
-                Location here = this.at(x, y);
-                addExitFromHere(here, x, y - 1, "North", "8");
-                addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-                addExitFromHere(here, x + 1, y, "East", "6");
-                addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-                addExitFromHere(here, x, y + 1, "South", "2");
-                addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-                addExitFromHere(here, x - 1, y, "West", "4");
-                addExitFromHere(here, x - 1, y - 1, "North-West", "7");
-            }
+    /**
+     * Give a Location its Exits to the Locations around it. Called by the Location the first
+     * time its Exits are asked for, so a map only holds Exits for the Locations that use them.
+     *
+     * @param here the Location to give Exits to
+     */
+    protected void addExits(Location here) {
+        for (int direction = 0; direction < DIRECTION_NAMES.length; direction++) {
+            addExitFromHere(here, here.x() + DIRECTION_DX[direction], here.y() + DIRECTION_DY[direction],
+                    DIRECTION_NAMES[direction], DIRECTION_HOTKEYS[direction]);
         }
     }
 
@@ -167,18 +310,41 @@ public class GameMap {
     /**
      * Display the current GameMap.
      * <p>
-     * Draws Actors, then locations. These need to be printed in rows because that's the way the
-     * console works.
+     * Draws Actors, then locations. The whole map is composed into one frame and handed to
+     * the FrameRenderer, which writes it to the Display in a single call.
      *
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
-                display.print(this.at(x, y));
+        int width = widths.size();
+        int height = heights.size();
+        if (frame == null || frame.length != width * height)
+            frame = new char[width * height];
+
+        int index = 0;
+        for (int y = heights.min(); y <= heights.max(); y++) {
+            for (int x = widths.min(); x <= widths.max(); x++) {
+                frame[index++] = this.at(x, y).getDisplayChar();
             }
-            display.endLine();
         }
+        renderer.render(frame, width, height, display);
+    }
+
+    /**
+     * Change how this map's frames are written to the Display, e.g. to a diffing FrameRenderer.
+     *
+     * @param renderer the renderer to use
+     */
+    public void setRenderer(FrameRenderer renderer) {
+        this.renderer = Objects.requireNonNull(renderer);
+    }
+
+    /**
+     * Have the next frame drawn in full. Called by the World when it starts showing this map
+     * after another, as a diffing renderer's last frame is then no longer on the screen.
+     */
+    void redrawInFull() {
+        renderer.reset();
     }
 
     /**
@@ -207,6 +373,16 @@ public class GameMap {
         }
     }
 
+    /**
+     * Returns this map's own random stream, for things that happen on the map rather than
+     * because of an Actor, such as where an egg hatches.
+     *
+     * @return the random stream
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
     /**
      * Returns an enumerable NumberRange representing the valid X values of the game map.
      *
@@ -227,27 +403,269 @@ public class GameMap {
 
     /**
      * Called once per turn, so that maps can experience the passage of time.
+     * <p>
+     * Only Locations whose Ground or Items override {@code tick} are visited, so the cost
+     * scales with what is alive on the map rather than its area. They are visited in row
+     * order, and a Location that becomes active during the tick is ticked later in the same
+     * turn if it comes after the one being ticked, just as in a pass over the whole grid.
      */
     public void tick() {
-        // Tick over all the items in inventories as well as the status effects held by the current actor.
+        List<Actor> actorsHere = new ArrayList<>();
         for (Actor actor : actorLocations) {
-            if (this.contains(actor)) {
-                for (Item item : new ArrayList<Item>(actor.getItemInventory())) { // Copy the list in case the item wants to leave
-                    item.tick(actorLocations.locationOf(actor), actor);
-                }
-                for (StatusEffect statusEffect : new ArrayList<StatusEffect>(actor.getStatusEffects())) {
-                    statusEffect.tick(actorLocations.locationOf(actor), actor);
+            if (this.contains(actor))
+                actorsHere.add(actor);
+        }
+        tick(actorsHere);
+    }
+
+    /**
+     * Tick this map, given the Actors on it in turn order.
+     *
+     * @param actorsHere the Actors on this map at the start of the tick
+     */
+    void tick(List<Actor> actorsHere) {
+        long started = TurnMetrics.start();
+        try {
+            // Tick over all the items in inventories as well as the status effects held by the current actor.
+            for (Actor actor : actorsHere) {
+                if (this.contains(actor)) {
+                    for (Item item : new ArrayList<Item>(actor.getItemInventory())) { // Copy the list in case the item wants to leave
+                        item.tick(actorLocations.locationOf(actor), actor);
+                    }
+                    for (StatusEffect statusEffect : new ArrayList<StatusEffect>(actor.getStatusEffects())) {
+                        statusEffect.tick(actorLocations.locationOf(actor), actor);
+                    }
                 }
             }
-        }
 
-        for (int y : heights) {
-            for (int x : widths) {
-                this.at(x, y).tick();
+            // Only Locations with something that ticks are visited, in row order. Walk the set
+            // rather than a copy, so a Location that becomes active further along is still
+            // ticked this turn, as it would be by a pass over the whole grid.
+            Location location = activeLocations.isEmpty() ? null : activeLocations.first();
+            while (location != null) {
+                location.tick();
+                location = activeLocations.higher(location);
             }
+        } finally {
+            TurnMetrics.stop(Section.MAP_TICK, getClass(), started);
         }
     }
 
+    /**
+     * Returns true if the World has suspended this map: it is not ticked and the Actors on it
+     * do not take turns.
+     *
+     * @return true if this map is dormant
+     */
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Miss a turn. Called by the World, in place of a tick, for each turn this map is dormant.
+     */
+    void sleep() {
+        dormant = true;
+        missedTurns++;
+    }
+
+    /**
+     * Stop being dormant, first letting everything here that implements {@link CatchUp} make up
+     * for the turns missed. Called by the World before the map is ticked again.
+     */
+    void wake() {
+        if (!dormant)
+            return;
+        dormant = false;
+        int turns = missedTurns;
+        missedTurns = 0;
+        if (turns == 0)
+            return;
+
+        // Only Actors that were here while the map slept catch up, not any hatched just now
+        List<Actor> actorsHere = new ArrayList<>();
+        for (Actor actor : actorLocations) {
+            if (actor instanceof CatchUp && this.contains(actor))
+                actorsHere.add(actor);
+        }
+        // Copy the set, as catching up may change it. Anything that becomes active while
+        // catching up did not exist during the missed turns, so it is left out.
+        for (Location location : new ArrayList<>(activeLocations)) {
+            location.catchUp(turns);
+        }
+        for (Actor actor : actorsHere) {
+            if (this.contains(actor))
+                ((CatchUp) actor).catchUp(locationOf(actor), turns);
+        }
+    }
+
+    /**
+     * Get ready to be ticked on another thread. Called by the World, on its own thread and in
+     * map order, before any map starts its parallel tick.
+     */
+    void prepareParallelTick() {
+        if (parallelTickSplits == null)
+            parallelTickSplits = (SplittableRandom) GameRandom.split();
+        deferredActorChanges = new ArrayList<>();
+    }
+
+    /**
+     * Tick this map alongside other maps.
+     * <p>
+     * Ticking a map only touches that map, except for the World's record of where every Actor
+     * is, which all maps share. While the tick runs, this map's own Locations see Actors
+     * arrive, move and leave straight away, but the shared record, and so
+     * {@link #locationOf(Actor)} and {@link #contains(Actor)}, only catches up in
+     * {@link #finishParallelTick()}. Anything done to another map, and every event published,
+     * is held back until then too.
+     * Actors created during the tick split their random streams from this map, so the result
+     * does not depend on which thread ran which map.
+     *
+     * @param actorsHere the Actors on this map at the start of the tick
+     */
+    void tickInParallel(List<Actor> actorsHere) {
+        tickingMap.set(this);
+        try {
+            EventBus.deferringTo(deferredActorChanges,
+                    () -> GameRandom.splittingFrom(parallelTickSplits, () -> tick(actorsHere)));
+        } finally {
+            tickingMap.remove();
+        }
+    }
+
+    /**
+     * Apply the changes to where Actors are that were held back during a parallel tick.
+     * Called by the World, on its own thread and in map order, once every map has ticked.
+     */
+    void finishParallelTick() {
+        List<Runnable> changes = deferredActorChanges;
+        deferredActorChanges = null;
+        for (Runnable change : changes)
+            change.run();
+    }
+
+    /**
+     * Add a Location to, or remove it from, the set ticked each turn. Called by the Location
+     * whenever its Ground or Items change.
+     *
+     * @param location the Location that changed
+     */
+    void updateActivity(Location location) {
+        if (location.isActive())
+            activeLocations.add(location);
+        else
+            activeLocations.remove(location);
+    }
+
+    /**
+     * Returns the EventBus that this map, its Locations and the Actors on it publish to.
+     *
+     * @return the bus, shared with the rest of the World once the map has been added to one
+     */
+    public EventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Called by the World when this map is added to it.
+     *
+     * @param events the World's bus
+     */
+    void setEventBus(EventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Returns a number that changes whenever the Ground at any Location on this map is
+     * replaced. Anything worked out from the terrain, such as a path, can remember it and
+     * be rebuilt only when it has moved on.
+     *
+     * @return the current ground version
+     */
+    public long getGroundVersion() {
+        return groundVersion;
+    }
+
+    /**
+     * Called by a Location when its Ground is replaced.
+     */
+    void groundChanged() {
+        groundVersion++;
+    }
+
+    /**
+     * Returns the PathFinder for this map.
+     *
+     * @return the PathFinder, created the first time this is called
+     */
+    public synchronized PathFinder getPathFinder() {
+        if (pathFinder == null)
+            pathFinder = createPathFinder();
+        return pathFinder;
+    }
+
+    /**
+     * Creates the PathFinder for this map, which searches within
+     * {@link PathFinder#DEFAULT_MARGIN} of the start and goal. Override this to search
+     * differently, e.g. on a map made of chunks.
+     *
+     * @return a new PathFinder
+     */
+    protected PathFinder createPathFinder() {
+        return new PathFinder(this, PathFinder.DEFAULT_MARGIN);
+    }
+
+    /**
+     * Returns true if this map only holds some of its Locations at a time, so that going
+     * over every Location is best avoided.
+     *
+     * @return false, unless overridden
+     */
+    public boolean isStreamed() {
+        return false;
+    }
+
+    /**
+     * Stop ticking a Location, because the map is letting go of it.
+     *
+     * @param location the Location
+     */
+    void forgetLocation(Location location) {
+        activeLocations.remove(location);
+    }
+
+    /**
+     * Returns the FlowField leading to a target Actor, shared by every walker of the same class.
+     *
+     * @param target the Actor to head towards
+     * @param walker the Actor that will use the field
+     * @return the FlowField, created the first time it is asked for
+     */
+    public FlowField getFlowField(Actor target, Actor walker) {
+        synchronized (flowFields) {
+            return flowFields.computeIfAbsent(target, t -> new HashMap<>())
+                    .computeIfAbsent(walker.getClass(), type -> new FlowField(this, target, type, FlowField.DEFAULT_RADIUS));
+        }
+    }
+
+    /**
+     * Drop the FlowFields leading to an Actor and the paths it was walking, once it has left
+     * this map.
+     *
+     * @param actor the Actor that has left
+     */
+    private void forgetActor(Actor actor) {
+        synchronized (flowFields) {
+            flowFields.remove(actor);
+        }
+        PathFinder finder;
+        synchronized (this) {
+            finder = pathFinder;
+        }
+        if (finder != null)
+            finder.forget(actor);
+    }
+
     /**
      * Returns a reference to the Actor at the given location, if there is one.
      *
@@ -255,7 +673,7 @@ public class GameMap {
      * @return a reference to the Actor, or null if there isn't one
      */
     public Actor getActorAt(Location location) {
-        return actorLocations.getActorAt(location);
+        return location.map().occupantAt(location.x(), location.y());
     }
 
     /**
@@ -267,7 +685,23 @@ public class GameMap {
      */
     public void addActor(Actor actor, Location location) {
         Objects.requireNonNull(actor);
-        actorLocations.add(actor, location);
+        GameMap ticking = tickingMap.get();
+        if (ticking != null) {
+            if (location.map() != ticking) {
+                ticking.deferredActorChanges.add(() -> addActor(actor, location));
+                return;
+            }
+            if (ticking.occupantAt(location.x(), location.y()) != null)
+                throw new IllegalArgumentException();
+            ticking.setOccupant(location.x(), location.y(), actor);
+            ticking.deferredActorChanges.add(() -> actorLocations.add(actor, location));
+        } else {
+            actorLocations.add(actor, location);
+            location.map().setOccupant(location.x(), location.y(), actor);
+        }
+        actor.setEventBus(events);
+        if (events.hasSubscribers(ActorAddedEvent.class))
+            events.publish(new ActorAddedEvent(actor, location));
     }
 
     /**
@@ -277,7 +711,28 @@ public class GameMap {
      */
     public void removeActor(Actor actor) {
         Objects.requireNonNull(actor);
-        actorLocations.remove(actor);
+        Location location = actorLocations.locationOf(actor);
+        GameMap ticking = tickingMap.get();
+        if (ticking != null) {
+            if (location == null || location.map() != ticking) {
+                ticking.deferredActorChanges.add(() -> removeActor(actor));
+                return;
+            }
+            // Clear the square now so the rest of this tick sees it empty, and the rest later
+            ticking.setOccupant(location.x(), location.y(), null);
+            ticking.deferredActorChanges.add(() -> {
+                actorLocations.remove(actor);
+                ticking.forgetActor(actor);
+            });
+        } else {
+            actorLocations.remove(actor);
+            if (location == null)
+                return;
+            location.map().setOccupant(location.x(), location.y(), null);
+            location.map().forgetActor(actor);
+        }
+        if (events.hasSubscribers(ActorRemovedEvent.class))
+            events.publish(new ActorRemovedEvent(actor, location));
     }
 
     /**
@@ -289,7 +744,94 @@ public class GameMap {
      */
     public void moveActor(Actor actor, Location newLocation) {
         Objects.requireNonNull(actor);
-        actorLocations.move(actor, newLocation);
+        Location oldLocation = actorLocations.locationOf(actor);
+        GameMap ticking = tickingMap.get();
+        if (ticking != null) {
+            if (oldLocation == null || oldLocation.map() != ticking || newLocation.map() != ticking) {
+                ticking.deferredActorChanges.add(() -> moveActor(actor, newLocation));
+                return;
+            }
+            if (ticking.occupantAt(newLocation.x(), newLocation.y()) != null)
+                throw new IllegalArgumentException("Can't move to another actor");
+            ticking.setOccupant(oldLocation.x(), oldLocation.y(), null);
+            ticking.setOccupant(newLocation.x(), newLocation.y(), actor);
+            ticking.deferredActorChanges.add(() -> actorLocations.move(actor, newLocation));
+        } else {
+            actorLocations.move(actor, newLocation);
+            if (oldLocation != null) {
+                oldLocation.map().setOccupant(oldLocation.x(), oldLocation.y(), null);
+                if (oldLocation.map() != newLocation.map())
+                    oldLocation.map().forgetActor(actor);
+            }
+            newLocation.map().setOccupant(newLocation.x(), newLocation.y(), actor);
+        }
+        if (events.hasSubscribers(ActorMovedEvent.class))
+            events.publish(new ActorMovedEvent(actor, oldLocation, newLocation));
+    }
+
+    /**
+     * Returns every Actor within radius steps of a Location, in any direction including
+     * diagonals, in row order. The Actor at the centre, if any, is included.
+     *
+     * @param centre the Location at the centre of the search
+     * @param radius how far to look; 1 covers the centre and its eight neighbours
+     * @return the Actors found
+     * @throws IllegalArgumentException if radius is negative
+     */
+    public List<Actor> actorsWithin(Location centre, int radius) {
+        if (radius < 0)
+            throw new IllegalArgumentException("Radius cannot be negative");
+        GameMap centreMap = centre.map();
+        int left = Math.max(centre.x() - radius, centreMap.widths.min());
+        int right = Math.min(centre.x() + radius, centreMap.widths.max());
+        int top = Math.max(centre.y() - radius, centreMap.heights.min());
+        int bottom = Math.min(centre.y() + radius, centreMap.heights.max());
+        return centreMap.actorsIn(new NumberRange(left, right - left + 1), new NumberRange(top, bottom - top + 1));
+    }
+
+    /**
+     * Returns every Actor in a rectangle of this map, in row order. Parts of the rectangle
+     * that lie off the map are ignored.
+     *
+     * @param xs the range of X coordinates
+     * @param ys the range of Y coordinates
+     * @return the Actors found
+     */
+    public List<Actor> actorsIn(NumberRange xs, NumberRange ys) {
+        List<Actor> actors = new ArrayList<>();
+        for (int y = Math.max(ys.min(), heights.min()); y <= Math.min(ys.max(), heights.max()); y++) {
+            for (int x = Math.max(xs.min(), widths.min()); x <= Math.min(xs.max(), widths.max()); x++) {
+                Actor actor = occupantAt(x, y);
+                if (actor != null)
+                    actors.add(actor);
+            }
+        }
+        return actors;
+    }
+
+    /**
+     * Returns the Actor standing at the given coordinates of this map.
+     * <p>
+     * Override this together with {@link #setOccupant(int, int, Actor)} if a map keeps its
+     * Locations in some other structure.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return the Actor there, or null if there isn't one
+     */
+    protected Actor occupantAt(int x, int y) {
+        return occupants[y * widths.size() + x];
+    }
+
+    /**
+     * Record which Actor is standing at the given coordinates of this map.
+     *
+     * @param x     X coordinate
+     * @param y     Y coordinate
+     * @param actor the Actor there, or null if it is now empty
+     */
+    protected void setOccupant(int x, int y, Actor actor) {
+        occupants[y * widths.size() + x] = actor;
     }
 
     /**
@@ -309,7 +851,7 @@ public class GameMap {
      * @return true if and only if an Actor is at the given Location.
      */
     public boolean isAnActorAt(Location location) {
-        return actorLocations.isAnActorAt(location);
+        return location.map().occupantAt(location.x(), location.y()) != null;
     }
 
     /**
@@ -4,6 +4,8 @@ import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 
 /**
  * Class representing terrain type
@@ -80,4 +82,26 @@ public abstract class Ground extends GameEntity implements Printable {
     public String toString() {
         return name;
     }
+
+    /**
+     * Write this ground's capabilities and display character to a snapshot.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeChar(displayChar);
+    }
+
+    /**
+     * Restore this ground's capabilities and display character from a snapshot.
+     *
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        displayChar = in.readChar();
+    }
 }
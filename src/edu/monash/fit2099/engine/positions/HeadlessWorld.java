@@ -0,0 +1,115 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.PlayerController;
+import edu.monash.fit2099.engine.displays.Display;
+
+import java.util.Objects;
+
+/**
+ * A World that runs without a human player.
+ *
+ * The player's Actions come from a PlayerController rather than the Menu, the map
+ * is never drawn, and the game stops after a fixed number of turns if the player
+ * is still around. All other output goes to the given Display, which will usually
+ * be a NullDisplay or a BufferedDisplay.
+ */
+public class HeadlessWorld extends World {
+	private final PlayerController controller;
+	private final long maximumTurns;
+	private long turns = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param sink         the Display that receives the game's output
+	 * @param controller   chooses the player's Action each turn
+	 * @param maximumTurns the number of turns after which the run stops
+	 * @throws IllegalArgumentException if maximumTurns is negative
+	 */
+	public HeadlessWorld(Display sink, PlayerController controller, long maximumTurns) {
+		super(sink);
+		Objects.requireNonNull(controller);
+		if (maximumTurns < 0)
+			throw new IllegalArgumentException("Turn budget cannot be negative");
+		this.controller = controller;
+		this.maximumTurns = maximumTurns;
+	}
+
+	/**
+	 * @return the number of turns played so far
+	 */
+	public long getTurns() {
+		return turns;
+	}
+
+	/**
+	 * Play a single turn, if the run has not finished. Lets a caller drive the World turn by
+	 * turn instead of calling {@link #run()}. The first step gets the World ready just as
+	 * {@code run()} does.
+	 *
+	 * @return true if the run can continue after this turn
+	 * @throws IllegalStateException if the player doesn't exist
+	 */
+	public boolean step() {
+		if (player == null)
+			throw new IllegalStateException();
+		if (!stillRunning())
+			return false;
+
+		if (turns == 0)
+			initialiseRun();
+		runTurn();
+		return stillRunning();
+	}
+
+	@Override
+	protected void runTurn() {
+		super.runTurn();
+		turns++;
+	}
+
+	/**
+	 * Nothing is drawn in a headless run.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	@Override
+	protected void drawMap(GameMap playersMap) {
+	}
+
+	/**
+	 * The player's Action comes from the controller, continuing any multi-turn Action first.
+	 * Every other Actor decides for itself as usual.
+	 *
+	 * @param actor   the Actor whose turn it is
+	 * @param actions the Actions available to the Actor
+	 * @param map     the GameMap containing the Actor
+	 * @return the Action the Actor chose
+	 */
+	@Override
+	protected Action selectAction(Actor actor, ActionList actions, GameMap map) {
+		if (actor != player)
+			return super.selectAction(actor, actions, map);
+
+		Action lastAction = lastActionMap.get(actor);
+		if (lastAction != null && lastAction.getNextAction() != null)
+			return lastAction.getNextAction();
+
+		Action action = controller.chooseAction(actor, actions, lastAction, map);
+		return action != null ? action : DoNothingAction.INSTANCE;
+	}
+
+	/**
+	 * The run continues while the player is around and the turn budget is not spent.
+	 *
+	 * @return true if another turn should be played
+	 */
+	@Override
+	protected boolean stillRunning() {
+		return turns < maximumTurns && super.stillRunning();
+	}
+}
@@ -0,0 +1,65 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of Location indexes, each pushed with a long key, for the searches run by
+ * {@link PathFinder} and {@link FlowField}. An index may be pushed more than once; the search
+ * skips any it has already finished with when they come off the heap.
+ */
+final class IndexHeap {
+    private int[] indexes = new int[64];
+    private long[] keys = new long[64];
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(int index, long key) {
+        if (size == indexes.length) {
+            indexes = Arrays.copyOf(indexes, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key)
+                break;
+            indexes[i] = indexes[parent];
+            keys[i] = keys[parent];
+            i = parent;
+        }
+        indexes[i] = index;
+        keys[i] = key;
+    }
+
+    /**
+     * @return the index with the smallest key, which is removed
+     */
+    int pop() {
+        int top = indexes[0];
+        int lastIndex = indexes[--size];
+        long lastKey = keys[size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && keys[child + 1] < keys[child])
+                child++;
+            if (keys[child] >= lastKey)
+                break;
+            indexes[i] = indexes[child];
+            keys[i] = keys[child];
+            i = child;
+        }
+        indexes[i] = lastIndex;
+        keys[i] = lastKey;
+        return top;
+    }
+}
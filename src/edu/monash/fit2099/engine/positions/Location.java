@@ -3,7 +3,13 @@ package edu.monash.fit2099.engine.positions;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.events.EventBus;
+import edu.monash.fit2099.engine.events.GroundChangedEvent;
+import edu.monash.fit2099.engine.events.ItemAddedEvent;
+import edu.monash.fit2099.engine.events.ItemRemovedEvent;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.Section;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
 
 import java.util.*;
 
@@ -14,13 +20,48 @@ import java.util.*;
  */
 public class Location implements Printable {
 
+    /**
+     * Whether a Ground class does anything when it ticks, worked out once per class.
+     */
+    private static final ClassValue<Boolean> GROUND_TICKS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, Ground.class);
+        }
+    };
+
+    /**
+     * Whether an Item class does anything when it ticks on the ground, worked out once per class.
+     */
+    private static final ClassValue<Boolean> ITEM_TICKS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, Item.class);
+        }
+    };
+
     private GameMap map;
     private int x;
     private int y;
 
-    private List<Item> items = new ArrayList<>();
+    /**
+     * The Items here, or null until the first one is added.
+     */
+    private List<Item> items;
     private Ground ground;
-    private List<Exit> exits = new ArrayList<>();
+    /**
+     * The Exits from here, or null until they are first asked for. Guarded by this Location.
+     */
+    private List<Exit> exits;
+    /**
+     * An unmodifiable view of exits, handed out by getExits.
+     */
+    private volatile List<Exit> exitsView;
+    /**
+     * The MoveActorActions into here made so far, one per direction and hotkey, or null until
+     * the first is asked for. Guarded by this Location.
+     */
+    private MoveActorAction[] moveActions;
 
     /**
      * Constructor.
@@ -72,7 +113,7 @@ public class Location implements Printable {
      * @return an unmodifiable List of items at this location
      */
     public List<Item> getItems() {
-        return Collections.unmodifiableList(items);
+        return items == null ? Collections.emptyList() : Collections.unmodifiableList(items);
     }
 
     /**
@@ -82,7 +123,13 @@ public class Location implements Printable {
      */
     public void addItem(Item item) {
         Objects.requireNonNull(item);
+        if (items == null)
+            items = new ArrayList<>(2);
         items.add(item);
+        map.updateActivity(this);
+        EventBus events = map.getEventBus();
+        if (events.hasSubscribers(ItemAddedEvent.class))
+            events.publish(new ItemAddedEvent(this, item));
     }
 
     /**
@@ -92,7 +139,12 @@ public class Location implements Printable {
      */
     public void removeItem(Item item) {
         Objects.requireNonNull(item);
-        items.remove(item);
+        if (items == null || !items.remove(item))
+            return;
+        map.updateActivity(this);
+        EventBus events = map.getEventBus();
+        if (events.hasSubscribers(ItemRemovedEvent.class))
+            events.publish(new ItemRemovedEvent(this, item));
     }
 
     /**
@@ -110,7 +162,34 @@ public class Location implements Printable {
      * @param ground Ground type to set
      */
     public void setGround(Ground ground) {
+        Ground previous = this.ground;
         this.ground = ground;
+        map.updateActivity(this);
+        if (previous != ground) {
+            map.groundChanged();
+            EventBus events = map.getEventBus();
+            if (events.hasSubscribers(GroundChangedEvent.class))
+                events.publish(new GroundChangedEvent(this, previous, ground));
+        }
+    }
+
+    /**
+     * Give a Location that has just been made its Ground and Items, e.g. when a chunk of a
+     * {@link ChunkedGameMap} is read back. Unlike {@link #setGround(Ground)} and
+     * {@link #addItem(Item)}, nothing is counted as having changed and no events are published,
+     * as the Location is only now coming into memory.
+     *
+     * @param ground the Ground
+     * @param items  the Items
+     */
+    void fill(Ground ground, List<Item> items) {
+        this.ground = Objects.requireNonNull(ground);
+        if (!items.isEmpty()) {
+            if (this.items == null)
+                this.items = new ArrayList<>(Math.max(2, items.size()));
+            this.items.addAll(items);
+        }
+        map.updateActivity(this);
     }
 
     /**
@@ -118,9 +197,64 @@ public class Location implements Printable {
      * important to them.
      */
     public void tick() {
-        ground.tick(this);
-        for (Item item : new ArrayList<>(items)) {
-            item.tick(this);
+        Class<?> groundType = ground.getClass();
+        long started = TurnMetrics.start();
+        try {
+            ground.tick(this);
+            if (items != null && !items.isEmpty()) {
+                for (Item item : new ArrayList<>(items)) {
+                    item.tick(this);
+                }
+            }
+        } finally {
+            TurnMetrics.stop(Section.LOCATION_TICK, groundType, started);
+        }
+    }
+
+    /**
+     * Let the Ground and Items here that implement {@link CatchUp} make up for turns missed
+     * while the map was dormant.
+     *
+     * @param turns the number of turns missed
+     */
+    void catchUp(int turns) {
+        if (ground instanceof CatchUp catchUp)
+            catchUp.catchUp(this, turns);
+        if (items != null && !items.isEmpty()) {
+            for (Item item : new ArrayList<>(items)) {
+                if (item instanceof CatchUp catchUp)
+                    catchUp.catchUp(this, turns);
+            }
+        }
+    }
+
+    /**
+     * Returns true if ticking this Location could change anything, i.e. its Ground or one of
+     * its Items overrides {@code tick}. The GameMap only ticks active Locations.
+     *
+     * @return true if this Location needs to be ticked each turn
+     */
+    public boolean isActive() {
+        if (ground != null && GROUND_TICKS.get(ground.getClass()))
+            return true;
+        if (items != null) {
+            for (Item item : items) {
+                if (ITEM_TICKS.get(item.getClass()))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if type declares its own {@code tick(Location)} rather than inheriting the
+     * empty one from base.
+     */
+    private static boolean overrides(Class<?> type, Class<?> base) {
+        try {
+            return type.getMethod("tick", Location.class).getDeclaringClass() != base;
+        } catch (NoSuchMethodException e) {
+            return false;
         }
     }
 
@@ -156,6 +290,7 @@ public class Location implements Printable {
 
     /**
      * Returns a MoveActorAction that will move actor to location if the terrain type allows.
+     * The action for each direction and hotkey is made once and handed out again after that.
      *
      * @param actor     the Actor to move
      * @param direction the direction of the destination from actor
@@ -164,11 +299,36 @@ public class Location implements Printable {
      */
     public MoveActorAction getMoveAction(Actor actor, String direction, String hotKey) {
         if (canActorEnter(actor))
-            return new MoveActorAction(this, direction, hotKey);
+            return moveAction(direction, hotKey);
 
         return null;
     }
 
+    /**
+     * Find the MoveActorAction into here with this direction and hotkey, making it if there
+     * is none yet. A Location is only ever entered from a handful of directions, so a short
+     * array is searched.
+     */
+    private synchronized MoveActorAction moveAction(String direction, String hotKey) {
+        int count = 0;
+        if (moveActions != null) {
+            for (MoveActorAction action : moveActions) {
+                if (action == null)
+                    break;
+                if (Objects.equals(action.getDirection(), direction) && Objects.equals(action.hotkey(), hotKey))
+                    return action;
+                count++;
+            }
+        }
+        MoveActorAction action = new MoveActorAction(this, direction, hotKey);
+        if (moveActions == null)
+            moveActions = new MoveActorAction[4];
+        else if (count == moveActions.length)
+            moveActions = Arrays.copyOf(moveActions, count * 2);
+        moveActions[count] = action;
+        return action;
+    }
+
     /**
      * Returns true if an Actor can enter this location.
      * <p>
@@ -196,7 +356,7 @@ public class Location implements Printable {
 
         if (this.containsAnActor())
             thing = this.getActor();
-        else if (items.size() > 0)
+        else if (items != null && items.size() > 0)
             thing = items.get(items.size() - 1);
         else
             thing = ground;
@@ -216,11 +376,15 @@ public class Location implements Printable {
 
     /**
      * Returns an unmodifiable list of exits.
+     * <p>
+     * The GameMap makes a Location's exits the first time they are asked for. The same list
+     * is returned every time, and it shows any exits added or removed since.
      *
      * @return an unmodifiable list of exits
      */
     public List<Exit> getExits() {
-        return Collections.unmodifiableList(exits);
+        List<Exit> view = exitsView;
+        return view != null ? view : makeExits();
     }
 
     /**
@@ -230,7 +394,8 @@ public class Location implements Printable {
      *
      * @param exit the exit to add
      */
-    public void addExit(Exit exit) {
+    public synchronized void addExit(Exit exit) {
+        makeExits();
         exits.add(exit);
     }
 
@@ -241,10 +406,35 @@ public class Location implements Printable {
      *
      * @param exit the exit to remove
      */
-    public void removeExit(Exit exit) {
+    public synchronized void removeExit(Exit exit) {
+        makeExits();
         exits.remove(exit);
     }
 
+    /**
+     * Drop this Location's exits, so the map makes them again the next time they are needed.
+     * Used when a neighbouring Location is replaced by another object.
+     */
+    synchronized void forgetExits() {
+        exits = null;
+        exitsView = null;
+    }
+
+    /**
+     * Have the map make this Location's exits, if it has not already.
+     *
+     * @return the view of the exits
+     */
+    private synchronized List<Exit> makeExits() {
+        if (exits == null) {
+            // The map adds exits through addExit, which finds the list already here
+            exits = new ArrayList<>(8);
+            map.addExits(this);
+            exitsView = Collections.unmodifiableList(exits);
+        }
+        return exitsView;
+    }
+
     /**
      * The toString method of a Location instance prints out the x and y coordinate along with the name of the map
      * the location is on.
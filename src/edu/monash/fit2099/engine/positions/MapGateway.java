@@ -0,0 +1,19 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Collection;
+
+/**
+ * A Ground that Actors standing on it can use to go to other GameMaps, such as a portal.
+ * <p>
+ * While an Actor on an awake map stands on one, the World keeps the maps it leads to awake as
+ * well, so that they have caught up by the time the Actor arrives.
+ *
+ * @see World#setDormancy(boolean)
+ */
+public interface MapGateway {
+
+    /**
+     * @return the maps this Ground leads to
+     */
+    Collection<GameMap> getLinkedMaps();
+}
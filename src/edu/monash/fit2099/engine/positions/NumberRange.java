@@ -1,10 +1,9 @@
 package edu.monash.fit2099.engine.positions;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 /**
  * A class that represents an array of sequential numbers.
@@ -12,40 +11,82 @@ import java.util.List;
  * Counted for loops can cause off by one errors, and using this class can
  * let you use enhanced for loops instead.  Python programmers should be familiar
  * with this idiom.
+ *
+ * Only the start and the count are stored. Hot loops should prefer {@link #intIterator()},
+ * which doesn't box, or loop from {@link #min()} to {@link #max()}.
  */
 public class NumberRange implements Iterable<Integer> {
 
-	private List<Integer> list;
+	private final int start;
+	private final int count;
 
+	/**
+	 * Constructor.
+	 *
+	 * @param start the first number in the range
+	 * @param count how many numbers are in the range; zero or less makes an empty range
+	 */
 	public NumberRange(int start, int count) {
-		// Iterators can be used to remove elements. Who knew?
-		List<Integer> innerList = new ArrayList<Integer>();
-		list = Collections.unmodifiableList(innerList);
-
-		for (int i = start; i < start + count; i++) {
-			innerList.add(i);
-		}
+		this.start = start;
+		this.count = Math.max(count, 0);
 	}
 
 	@Override
 	public Iterator<Integer> iterator() {
-		return list.iterator();
+		return intIterator();
+	}
+
+	/**
+	 * Returns an iterator over the range that hands out primitive ints.
+	 *
+	 * @return an iterator from min to max
+	 */
+	public PrimitiveIterator.OfInt intIterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int next = start;
+
+			@Override
+			public boolean hasNext() {
+				return next < start + count;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return next++;
+			}
+		};
 	}
 
 	/**
 	 * Return the smallest int in the range.
 	 * @return the smallest int in the range.
+	 * @throws NoSuchElementException if the range is empty
 	 */
 	public int min() {
-		return list.get(0);
+		if (count == 0)
+			throw new NoSuchElementException("Empty range");
+		return start;
 	}
 
 	/**
 	 * Return the largest int in the range.
 	 * @return the largest int in the range.
+	 * @throws NoSuchElementException if the range is empty
 	 */
 	public int max() {
-		return list.get(list.size() - 1);
+		if (count == 0)
+			throw new NoSuchElementException("Empty range");
+		return start + count - 1;
+	}
+
+	/**
+	 * Return how many ints are in the range.
+	 * @return the number of ints in the range.
+	 */
+	public int size() {
+		return count;
 	}
 
 	/**
@@ -55,7 +96,7 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return true if i lies between min and max, false otherwise.
 	 */
 	public boolean contains(int i) {
-		return list.contains(i);
+		return i >= start && i - start < count;
 	}
 
 }
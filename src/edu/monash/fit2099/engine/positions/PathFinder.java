@@ -0,0 +1,381 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finds shortest paths between Locations on one GameMap, for a particular Actor.
+ * <p>
+ * Paths are found with A* over the map's own Exits, so they can go diagonally just as Actors
+ * can. A straight step costs 10 and a diagonal one 14, and the estimate of the distance left
+ * is the octile distance, which never overestimates with those costs.
+ * <p>
+ * Only the Locations next to the start have to be enterable right now, so an Actor standing
+ * in the way there is walked around. Further along, only the Ground is checked, as other
+ * Actors will have moved by the time the path gets there. The goal itself never has to be
+ * enterable, so a path can be found to another Actor.
+ * <p>
+ * The last path found for each Actor is kept, and reused on later turns for as long as the
+ * Actor stays on it and no Ground on the map has changed. When the goal has moved one step,
+ * as a chased Actor does, the path is cut short or carried on by that step rather than found
+ * again. A goal found to be out of reach is remembered too, and taken to stay out of reach,
+ * along with the Locations next to it, until some Ground changes. That is not done if it was
+ * only out of reach because other Actors stood around the start. An Actor's path is dropped
+ * when it leaves the map. Get the PathFinder for a map with {@link GameMap#getPathFinder()}.
+ * <p>
+ * A PathFinder may be given a margin, in which case each search only looks within that many
+ * steps of the rectangle spanned by the start and the goal. A GameMap's own PathFinder uses
+ * {@link #DEFAULT_MARGIN}, and maps too large to search whole, such as a
+ * {@link ChunkedGameMap}, may use another.
+ */
+public class PathFinder {
+
+    static final int STRAIGHT = 10;
+    static final int DIAGONAL = 14;
+
+    /**
+     * The margin of the PathFinder a GameMap makes for itself. Enough to walk around any
+     * obstacle on the maps in the game, while keeping a search for an unreachable goal from
+     * covering the whole of a large map.
+     */
+    public static final int DEFAULT_MARGIN = 16;
+
+    /**
+     * How many Actors' paths are kept before the least recently used is dropped.
+     */
+    private static final int CACHED_PATHS = 256;
+
+    private final GameMap map;
+    private final int width;
+    private final int height;
+    /**
+     * How far beyond the start and goal a search may look, or -1 for the whole map.
+     */
+    private final int margin;
+
+    /**
+     * The last path found for each Actor, least recently used first, with null steps for a goal
+     * out of reach. Guarded by itself.
+     */
+    private final Map<Actor, Path> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Actor, Path> eldest) {
+            return size() > CACHED_PATHS;
+        }
+    };
+
+    /**
+     * The arrays a search works in, one set per thread so searches can run at the same time.
+     */
+    private final ThreadLocal<Search> searches;
+
+    /**
+     * Constructor.
+     *
+     * @param map the map to find paths on
+     */
+    public PathFinder(GameMap map) {
+        this(map, -1);
+    }
+
+    /**
+     * Constructor for a PathFinder that only searches near the start and goal.
+     *
+     * @param map    the map to find paths on
+     * @param margin how many steps beyond the rectangle spanned by the start and goal a
+     *               search may look, or -1 to search the whole map
+     */
+    public PathFinder(GameMap map, int margin) {
+        if (margin < -1)
+            throw new IllegalArgumentException("Margin must be -1 or more");
+        this.map = Objects.requireNonNull(map);
+        this.width = map.getXRange().max() + 1;
+        this.height = map.getYRange().max() + 1;
+        this.margin = margin;
+        this.searches = ThreadLocal.withInitial(Search::new);
+    }
+
+    /**
+     * Find the first step of a shortest path from one Location to another.
+     *
+     * @param actor the Actor that will walk the path
+     * @param from  where the Actor is
+     * @param to    where the Actor wants to get to
+     * @return the Exit from {@code from} to take, or null if {@code to} cannot be reached, is on
+     * another map, or is {@code from} itself
+     */
+    public Exit nextStep(Actor actor, Location from, Location to) {
+        Location[] steps = path(actor, from, to);
+        if (steps == null || steps.length == 0)
+            return null;
+        for (Exit exit : from.getExits()) {
+            if (exit.getDestination() == steps[0])
+                return exit;
+        }
+        return null;
+    }
+
+    /**
+     * Find the Locations along a shortest path from one Location to another.
+     *
+     * @param actor the Actor that will walk the path
+     * @param from  where the Actor is
+     * @param to    where the Actor wants to get to
+     * @return the Locations along the path, not including {@code from} and ending at {@code to},
+     * or null if {@code to} cannot be reached or is on another map. Empty if {@code from} is {@code to}.
+     */
+    public Location[] path(Actor actor, Location from, Location to) {
+        Objects.requireNonNull(actor);
+        if (from.map() != map || to.map() != map)
+            return null;
+        if (from == to)
+            return new Location[0];
+
+        long groundVersion = map.getGroundVersion();
+        Path cached;
+        synchronized (cache) {
+            cached = cache.get(actor);
+        }
+        if (cached != null && cached.groundVersion == groundVersion && isNear(cached.goal, to)) {
+            if (cached.steps == null)
+                return null;
+            Location[] rest = cached.from(from);
+            Location[] steps = rest == null || cached.goal == to ? rest : towards(actor, rest, to);
+            if (steps != null && (steps.length == 1 || steps[0].canActorEnter(actor))) {
+                if (cached.goal != to) {
+                    synchronized (cache) {
+                        cache.put(actor, new Path(from, steps.clone(), to, groundVersion));
+                    }
+                }
+                return steps;
+            }
+        }
+
+        Search search = searches.get();
+        Location[] steps = search.run(actor, from, to);
+        synchronized (cache) {
+            // Only Ground decides that a goal is out of reach, unless an Actor was in the way
+            if (steps != null)
+                cache.put(actor, new Path(from, steps.clone(), to, groundVersion));
+            else if (!search.blockedByActor)
+                cache.put(actor, new Path(from, null, to, groundVersion));
+            else
+                cache.remove(actor);
+        }
+        return steps;
+    }
+
+    /**
+     * Forget the path an Actor was walking, e.g. because it has left the map.
+     *
+     * @param actor the Actor
+     */
+    public void forget(Actor actor) {
+        synchronized (cache) {
+            cache.remove(actor);
+        }
+    }
+
+    /**
+     * Forget every path found so far.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns true if two Locations are the same or next to each other.
+     */
+    private static boolean isNear(Location a, Location b) {
+        return Math.abs(a.x() - b.x()) <= 1 && Math.abs(a.y() - b.y()) <= 1;
+    }
+
+    /**
+     * Bend a path to a goal that has moved one step: cut it short if the new goal is already
+     * on it, otherwise carry it on from the old goal.
+     *
+     * @param actor the Actor that will walk the path
+     * @param steps the path to the old goal
+     * @param to    the new goal, next to the old one
+     * @return the path to the new goal, or null if it cannot go through the old goal
+     */
+    private static Location[] towards(Actor actor, Location[] steps, Location to) {
+        for (int i = 0; i < steps.length; i++) {
+            if (steps[i] == to)
+                return Arrays.copyOf(steps, i + 1);
+        }
+        if (!steps[steps.length - 1].getGround().canActorEnter(actor))
+            return null;
+        Location[] longer = Arrays.copyOf(steps, steps.length + 1);
+        longer[steps.length] = to;
+        return longer;
+    }
+
+    private static int estimate(int dx, int dy) {
+        dx = Math.abs(dx);
+        dy = Math.abs(dy);
+        return STRAIGHT * Math.max(dx, dy) + (DIAGONAL - STRAIGHT) * Math.min(dx, dy);
+    }
+
+    /**
+     * The arrays for one A* search, indexed by position within the area searched, row by row.
+     * A Location belongs to the current search only if its stamp matches, so nothing needs
+     * clearing between searches. The arrays grow to fit the largest area searched so far.
+     */
+    private final class Search {
+        private int[] stamps = new int[0];
+        private int[] costs = new int[0];
+        private int[] cameFrom = new int[0];
+        private boolean[] closed = new boolean[0];
+        private int stamp;
+
+        /**
+         * True if the last search had to go around an Actor next to the start.
+         */
+        private boolean blockedByActor;
+
+        /**
+         * The area being searched.
+         */
+        private int left;
+        private int top;
+        private int areaWidth;
+        private int areaHeight;
+
+        /**
+         * Ordered by cost plus estimate, with the lower estimate first on a tie so the search
+         * heads straight for the goal.
+         */
+        private final IndexHeap open = new IndexHeap();
+
+        Location[] run(Actor actor, Location from, Location to) {
+            if (margin < 0) {
+                left = 0;
+                top = 0;
+                areaWidth = width;
+                areaHeight = height;
+            } else {
+                left = Math.max(0, Math.min(from.x(), to.x()) - margin);
+                top = Math.max(0, Math.min(from.y(), to.y()) - margin);
+                areaWidth = Math.min(width - 1, Math.max(from.x(), to.x()) + margin) - left + 1;
+                areaHeight = Math.min(height - 1, Math.max(from.y(), to.y()) + margin) - top + 1;
+            }
+            int size = Math.multiplyExact(areaWidth, areaHeight);
+            if (stamps.length < size) {
+                stamps = new int[size];
+                costs = new int[size];
+                cameFrom = new int[size];
+                closed = new boolean[size];
+            }
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+            open.clear();
+            blockedByActor = false;
+            int start = index(from);
+            int goal = index(to);
+            visit(start, 0, -1, to, from);
+
+            while (!open.isEmpty()) {
+                int current = open.pop();
+                if (closed[current])
+                    continue;
+                if (current == goal)
+                    return trace(start, goal);
+                closed[current] = true;
+
+                Location here = map.at(left + current % areaWidth, top + current / areaWidth);
+                for (Exit exit : here.getExits()) {
+                    Location there = exit.getDestination();
+                    if (there.map() != map)
+                        continue;
+                    int next = index(there);
+                    if (next < 0 || stamps[next] == stamp && closed[next])
+                        continue;
+                    if (next != goal) {
+                        if (!there.getGround().canActorEnter(actor))
+                            continue;
+                        if (current == start && !there.canActorEnter(actor)) {
+                            blockedByActor = true;
+                            continue;
+                        }
+                    }
+                    boolean diagonal = there.x() != here.x() && there.y() != here.y();
+                    int cost = costs[current] + (diagonal ? DIAGONAL : STRAIGHT);
+                    if (stamps[next] != stamp || cost < costs[next])
+                        visit(next, cost, current, to, there);
+                }
+            }
+            return null;
+        }
+
+        private void visit(int index, int cost, int parent, Location goal, Location location) {
+            stamps[index] = stamp;
+            closed[index] = false;
+            costs[index] = cost;
+            cameFrom[index] = parent;
+            int remaining = estimate(goal.x() - location.x(), goal.y() - location.y());
+            open.push(index, ((long) (cost + remaining) << 32) | remaining);
+        }
+
+        private Location[] trace(int start, int goal) {
+            int length = 0;
+            for (int i = goal; i != start; i = cameFrom[i])
+                length++;
+            Location[] steps = new Location[length];
+            for (int i = goal; i != start; i = cameFrom[i])
+                steps[--length] = map.at(left + i % areaWidth, top + i / areaWidth);
+            return steps;
+        }
+
+        /**
+         * @return the position of a Location within the area searched, or -1 if it is outside
+         */
+        private int index(Location location) {
+            int x = location.x() - left;
+            int y = location.y() - top;
+            if (x < 0 || y < 0 || x >= areaWidth || y >= areaHeight)
+                return -1;
+            return y * areaWidth + x;
+        }
+    }
+
+    /**
+     * A path found earlier, or null steps if the goal was out of reach, with its goal and the
+     * ground version it was found against.
+     */
+    private static final class Path {
+        private final Location start;
+        private final Location[] steps;
+        private final Location goal;
+        private final long groundVersion;
+
+        Path(Location start, Location[] steps, Location goal, long groundVersion) {
+            this.start = start;
+            this.steps = steps;
+            this.goal = goal;
+            this.groundVersion = groundVersion;
+        }
+
+        /**
+         * @param location where the Actor is now
+         * @return the rest of the path from there, or null if the Actor has left the path
+         */
+        Location[] from(Location location) {
+            if (location == start)
+                return steps.clone();
+            for (int i = 0; i < steps.length - 1; i++) {
+                if (steps[i] == location)
+                    return Arrays.copyOfRange(steps, i + 1, steps.length);
+            }
+            return null;
+        }
+    }
+}
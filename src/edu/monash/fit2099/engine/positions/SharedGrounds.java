@@ -0,0 +1,67 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * One shared object for each stateless Ground type.
+ * <p>
+ * Terrain such as walls and floors has no state of its own, so a map only needs a single
+ * object of each type, however many tiles it covers. The shared object is built once,
+ * with the type's public no-argument constructor, the first time it is asked for.
+ * Shared Grounds must not have their capabilities changed, as every tile would see it.
+ */
+public final class SharedGrounds {
+
+    private static final ClassValue<Ground> INSTANCES = new ClassValue<>() {
+        @Override
+        protected Ground computeValue(Class<?> type) {
+            if (StatefulGround.class.isAssignableFrom(type))
+                throw new IllegalArgumentException(type.getName() + " holds per-tile state and cannot be shared");
+            try {
+                return (Ground) type.getConstructor().newInstance();
+            } catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+                throw new IllegalArgumentException(type.getName() + " has no public no-argument constructor", e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Could not create " + type.getName(), e.getCause());
+            }
+        }
+    };
+
+    private SharedGrounds() {
+    }
+
+    /**
+     * Get the shared object for a Ground type.
+     *
+     * @param type the Ground type
+     * @param <T>  the Ground type
+     * @return the one object of that type shared by every tile
+     * @throws IllegalArgumentException if the type is a {@link StatefulGround}, or has no public no-argument constructor
+     */
+    public static <T extends Ground> T get(Class<T> type) {
+        return type.cast(INSTANCES.get(type));
+    }
+
+    /**
+     * Swap a Ground for the shared object of its type, if its type may be shared, e.g. one
+     * just read back from a snapshot.
+     *
+     * @param ground the Ground, which may be null
+     * @return the shared object of the same type, or ground itself if its type holds per-tile state
+     */
+    public static Ground share(Ground ground) {
+        if (ground == null || !isShareable(ground.getClass()))
+            return ground;
+        return get(ground.getClass());
+    }
+
+    /**
+     * Returns true if objects of this Ground type may be shared between tiles.
+     *
+     * @param type the Ground type
+     * @return true unless the type is a {@link StatefulGround}
+     */
+    public static boolean isShareable(Class<? extends Ground> type) {
+        return !StatefulGround.class.isAssignableFrom(type);
+    }
+}
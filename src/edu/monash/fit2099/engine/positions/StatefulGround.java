@@ -0,0 +1,13 @@
+package edu.monash.fit2099.engine.positions;
+
+/**
+ * Marker for Ground types whose objects hold state of their own, such as a countdown or
+ * a list of destinations, and so must never be shared between Locations.
+ * <p>
+ * Ground types without this marker are assumed to keep everything that varies from tile
+ * to tile in the Location, which lets {@link SharedGrounds} and
+ * {@link FancyGroundFactory#withSharedGrounds(Ground...)} hand out one object for every
+ * tile of that type.
+ */
+public interface StatefulGround {
+}
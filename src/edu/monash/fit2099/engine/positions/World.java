@@ -4,14 +4,25 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.LazyActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.ActorAddedEvent;
+import edu.monash.fit2099.engine.events.EventBus;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.Section;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Za Warudo! - DIO
@@ -25,6 +36,12 @@ public class World {
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<Actor, Action>();
+	protected EventBus events = new EventBus();
+	private ForkJoinPool tickPool; // null to tick the maps one after another
+	private boolean dormancy; // true to suspend maps the player is not on
+	private ForkJoinPool decisionPool; // null for every Actor to decide in its own turn
+	private final Map<Actor, Action> plannedActions = new HashMap<>();
+	private GameMap lastDrawnMap; // the map whose frame is on the screen, if any
 
 	/**
 	 * Constructor.
@@ -44,6 +61,7 @@ public class World {
 		Objects.requireNonNull(gameMap);
 		gameMaps.add(gameMap);
 		gameMap.actorLocations = actorLocations;
+		gameMap.setEventBus(events);
 	}
 
 	/**
@@ -54,8 +72,140 @@ public class World {
 	 */
 	public void addPlayer(Actor player, Location location) {
 		this.player = player;
-		actorLocations.add(player, location.map().at(location.x(), location.y()));
+		Location here = location.map().at(location.x(), location.y());
+		actorLocations.add(player, here);
+		here.map().setOccupant(here.x(), here.y(), player);
 		actorLocations.setPlayer(player);
+		lastActionMap.putIfAbsent(player, DoNothingAction.INSTANCE);
+		player.setEventBus(events);
+		if (events.hasSubscribers(ActorAddedEvent.class))
+			events.publish(new ActorAddedEvent(player, here));
+	}
+
+	/**
+	 * Add an Actor other than the player to the World, starting it off as though its last
+	 * Action was to do nothing.
+	 *
+	 * @param actor    the Actor to add
+	 * @param location the Location where the Actor is to be added
+	 */
+	public void addActor(Actor actor, Location location) {
+		location.map().addActor(actor, location);
+		lastActionMap.putIfAbsent(actor, DoNothingAction.INSTANCE);
+	}
+
+	/**
+	 * Get the EventBus shared by every GameMap, Location and Actor in this World.
+	 *
+	 * @return the bus
+	 */
+	public EventBus getEventBus() {
+		return events;
+	}
+
+	/**
+	 * Tick the GameMaps on a pool of threads instead of one after another.
+	 * <p>
+	 * Each map is ticked by its own task and the turn waits for them all before any Actor
+	 * moves. Changes a tick makes to where Actors are are applied afterwards, in the order the
+	 * maps were added, so a game with a given seed plays out the same however the threads
+	 * happen to be scheduled. See {@link GameMap#tickInParallel(List)} for what a tick can see while
+	 * other maps are ticking. Ground and Items that reach into other maps or share state
+	 * between maps from {@code tick} must not be used with a pool.
+	 *
+	 * @param pool the pool to tick on, or null to tick the maps one after another
+	 */
+	public void setTickPool(ForkJoinPool pool) {
+		this.tickPool = pool;
+	}
+
+	/**
+	 * Have every Actor but the player plan its turn at the start of the turn, all at once on a
+	 * pool of threads, instead of each deciding when its turn comes.
+	 * <p>
+	 * Plans come from {@link Actor#planTurn(GameMap)}, which only reads the game, so they are
+	 * made against the World as it stands once the maps have ticked. The Actors then take their
+	 * turns one after another in the usual order, each checking its plan with
+	 * {@link Action#isStillValid(Actor, GameMap)} and doing nothing instead if an Actor before
+	 * it has got in the way, e.g. by moving to the same Location first. As Actors draw random
+	 * numbers from their own generators, a game with a given seed plays out the same however
+	 * the threads are scheduled, though not the same as without a pool, since plans do not see
+	 * the moves made earlier in the turn.
+	 *
+	 * @param pool the pool to plan on, or null for every Actor to decide in its own turn
+	 */
+	public void setDecisionPool(ForkJoinPool pool) {
+		this.decisionPool = pool;
+	}
+
+	/**
+	 * Suspend the GameMaps that the player is not on.
+	 * <p>
+	 * A dormant map is not ticked, and the Actors on it do not take turns. It is woken again
+	 * at the start of the first turn the player is on it, or an Actor on an awake map stands
+	 * on a {@link MapGateway} leading to it. Before it is ticked, everything on it that
+	 * implements {@link CatchUp} makes up for the turns it missed in one go; for everything
+	 * else, time stood still.
+	 * <p>
+	 * An Actor arriving on a dormant map some other way finds it as it was when it fell
+	 * dormant until the next turn starts.
+	 *
+	 * @param enabled true to suspend maps, false to tick every map every turn
+	 */
+	public void setDormancy(boolean enabled) {
+		this.dormancy = enabled;
+	}
+
+	/**
+	 * Get the GameMaps in this World, in the order they were added.
+	 *
+	 * @return an unmodifiable list of the GameMaps
+	 */
+	public List<GameMap> getGameMaps() {
+		return Collections.unmodifiableList(gameMaps);
+	}
+
+	/**
+	 * Get the player.
+	 *
+	 * @return the player, or null if there isn't one
+	 */
+	public Actor getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Get every Actor in the World, in the order they take their turns.
+	 *
+	 * @return a new list of the Actors, the player first
+	 */
+	public List<Actor> getActors() {
+		List<Actor> actors = new ArrayList<>();
+		for (Actor actor : actorLocations)
+			actors.add(actor);
+		return actors;
+	}
+
+	/**
+	 * Get the Location of an Actor in this World.
+	 *
+	 * @param actor the Actor to look for
+	 * @return the Location of the Actor, or null if it isn't in this World
+	 */
+	public Location locationOf(Actor actor) {
+		return actorLocations.locationOf(actor);
+	}
+
+	/**
+	 * Remove every Actor, including the player, from the World.
+	 * The GameMaps themselves are left as they are.
+	 */
+	public void clearActors() {
+		for (Actor actor : getActors())
+			actorLocations.locationOf(actor).map().removeActor(actor);
+		actorLocations.setPlayer(null);
+		player = null;
+		lastActionMap.clear();
 	}
 
 	/**
@@ -66,7 +216,7 @@ public class World {
 	 *
 	 * We could either only process the actors on the current map, which would make
 	 * time stop on the other maps, or we could process all the actors. We chose to
-	 * process all the actors.
+	 * process all the actors, unless dormancy is turned on with {@link #setDormancy(boolean)}.
 	 *
 	 * @throws IllegalStateException if the player doesn't exist
 	 */
@@ -74,33 +224,201 @@ public class World {
 		if (player == null)
 			throw new IllegalStateException();
 
-		// initialize the last action map to nothing actions;
-		for (Actor actor : actorLocations) {
-			lastActionMap.put(actor, new DoNothingAction());
-		}
+		initialiseRun();
 
 		// This loop is basically the whole game
 		while (stillRunning()) {
-			GameMap playersMap = actorLocations.locationOf(player).map();
-			// Tick over all the maps. For the map stuff.
-			for (GameMap gameMap : gameMaps) {
+			runTurn();
+		}
+		display.println(endGameMessage());
+	}
+
+	/**
+	 * Get ready for the first turn of a run: every Actor starts out as though its last
+	 * Action was to do nothing.
+	 */
+	protected void initialiseRun() {
+		for (Actor actor : actorLocations) {
+			lastActionMap.put(actor, DoNothingAction.INSTANCE);
+		}
+	}
+
+	/**
+	 * Play a single turn of the game: tick every map, draw the player's map and
+	 * then give every Actor its turn.
+	 */
+	protected void runTurn() {
+		GameMap playersMap = actorLocations.locationOf(player).map();
+		// Tick over all the maps. For the map stuff.
+		tickMaps();
+
+		drawMap(playersMap);
+
+		planTurns();
+
+		// Process all the actors, except those on dormant maps.
+		for (Actor actor : actorLocations) {
+			if (stillRunning() && !actorLocations.locationOf(actor).map().isDormant())
+				processActorTurn(actor);
+		}
+		TurnMetrics.turnEnded();
+	}
+
+	/**
+	 * Tick every GameMap that is awake, on the tick pool if there is one. For a parallel tick
+	 * the Actors are sorted by map once, in turn order, rather than each map looking through
+	 * all of them.
+	 */
+	protected void tickMaps() {
+		List<GameMap> awakeMaps = wakeMaps();
+		if (tickPool == null || awakeMaps.size() < 2) {
+			for (GameMap gameMap : awakeMaps)
 				gameMap.tick();
-			}
+			return;
+		}
 
-			playersMap.draw(display);
+		Map<GameMap, List<Actor>> actorsByMap = new HashMap<>();
+		for (Actor actor : actorLocations)
+			actorsByMap.computeIfAbsent(actorLocations.locationOf(actor).map(), map -> new ArrayList<>()).add(actor);
+
+		for (GameMap gameMap : awakeMaps)
+			gameMap.prepareParallelTick();
+		List<ForkJoinTask<?>> ticks = new ArrayList<>(awakeMaps.size());
+		for (GameMap gameMap : awakeMaps) {
+			List<Actor> actorsHere = actorsByMap.getOrDefault(gameMap, List.of());
+			ticks.add(tickPool.submit(() -> gameMap.tickInParallel(actorsHere)));
+		}
+		try {
+			for (ForkJoinTask<?> tick : ticks)
+				tick.join();
+		} finally {
+			for (GameMap gameMap : awakeMaps)
+				gameMap.finishParallelTick();
+		}
+	}
 
-			// Process all the actors.
+	/**
+	 * Decide which maps are awake this turn, waking those that need to be and letting the
+	 * rest miss the turn.
+	 *
+	 * @return the maps to tick, in the order they were added
+	 */
+	private List<GameMap> wakeMaps() {
+		Set<GameMap> needed = null;
+		if (dormancy) {
+			needed = new HashSet<>();
+			if (player != null && actorLocations.contains(player))
+				needed.add(actorLocations.locationOf(player).map());
 			for (Actor actor : actorLocations) {
-				if (stillRunning())
-					processActorTurn(actor);
+				Location here = actorLocations.locationOf(actor);
+				if (!here.map().isDormant() && here.getGround() instanceof MapGateway gateway)
+					needed.addAll(gateway.getLinkedMaps());
 			}
 		}
-		display.println(endGameMessage());
+
+		List<GameMap> awakeMaps = new ArrayList<>(gameMaps.size());
+		for (GameMap gameMap : gameMaps) {
+			if (needed == null || needed.contains(gameMap)) {
+				gameMap.wake();
+				awakeMaps.add(gameMap);
+			} else {
+				gameMap.sleep();
+			}
+		}
+		return awakeMaps;
+	}
+
+	/**
+	 * Have every Actor but the player, on maps that are awake, plan its turn on the decision
+	 * pool, if there is one. The Actors are split into a few runs of neighbours in turn order,
+	 * one task per run.
+	 */
+	protected void planTurns() {
+		plannedActions.clear();
+		if (decisionPool == null)
+			return;
+
+		List<Actor> planners = new ArrayList<>();
+		List<GameMap> maps = new ArrayList<>();
+		for (Actor actor : actorLocations) {
+			GameMap map = actorLocations.locationOf(actor).map();
+			if (actor != player && !map.isDormant()) {
+				planners.add(actor);
+				maps.add(map);
+			}
+		}
+		if (planners.isEmpty())
+			return;
+
+		Action[] plans = new Action[planners.size()];
+		int runs = Math.min(plans.length, decisionPool.getParallelism() * 4);
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(runs);
+		for (int run = 0; run < runs; run++) {
+			int from = (int) ((long) plans.length * run / runs);
+			int to = (int) ((long) plans.length * (run + 1) / runs);
+			tasks.add(decisionPool.submit(() -> {
+				for (int i = from; i < to; i++)
+					plans[i] = planners.get(i).planTurn(maps.get(i));
+			}));
+		}
+		for (ForkJoinTask<?> task : tasks)
+			task.join();
+
+		for (int i = 0; i < plans.length; i++) {
+			if (plans[i] != null)
+				plannedActions.put(planners.get(i), plans[i]);
+		}
+	}
+
+	/**
+	 * Draw the map the player is on, in full if a different map was drawn last.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	protected void drawMap(GameMap playersMap) {
+		if (playersMap != lastDrawnMap) {
+			playersMap.redrawInFull();
+			lastDrawnMap = playersMap;
+		}
+		playersMap.draw(display);
 	}
 
 	/**
 	 * Gives an Actor its turn.
 	 *
+	 * The Actor is handed a lazily built list of the Actions it could take, so Actors
+	 * that decide from their Behaviours alone never pay for building it.
+	 *
+	 * @param actor the Actor whose turn it is.
+	 * @see #addAllowableActions(Actor, Location, ActionList)
+	 */
+	protected void processActorTurn(Actor actor) {
+		long turnStarted = TurnMetrics.start();
+		try {
+			Location here = actorLocations.locationOf(actor);
+			GameMap map = here.map();
+
+			ActionList actions = new LazyActionList(list -> addAllowableActions(actor, here, list));
+
+			Action action = selectAction(actor, actions, map);
+			lastActionMap.put(actor, action);
+
+			String result;
+			long actionStarted = TurnMetrics.start();
+			try {
+				result = action.execute(actor, map);
+			} finally {
+				TurnMetrics.stop(Section.ACTION, action.getClass(), actionStarted);
+			}
+			display.println(result);
+		} finally {
+			TurnMetrics.stop(Section.ACTOR_TURN, actor.getClass(), turnStarted);
+		}
+	}
+
+	/**
+	 * Collects the Actions an Actor can take.
+	 *
 	 * The Actions an Actor can take include:
 	 * <ul>
 	 * <li>those conferred by items it is carrying</li>
@@ -110,13 +428,13 @@ public class World {
 	 * <li>skipping a turn</li>
 	 * </ul>
 	 *
-	 * @param actor the Actor whose turn it is.
+	 * @param actor   the Actor whose turn it is
+	 * @param here    the Location of the Actor
+	 * @param actions the list to add the Actions to
 	 */
-	protected void processActorTurn(Actor actor) {
-		Location here = actorLocations.locationOf(actor);
+	protected void addAllowableActions(Actor actor, Location here, ActionList actions) {
 		GameMap map = here.map();
 
-		ActionList actions = new ActionList();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
 			actions.add(item.allowableActions(actor, map));
@@ -149,13 +467,26 @@ public class World {
 			// Game rule. If it's on the ground you can pick it up.
 			actions.add(item.getPickUpAction(actor));
 		}
-		actions.add(new DoNothingAction());
+		actions.add(DoNothingAction.INSTANCE);
+	}
 
-		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
-		lastActionMap.put(actor, action);
-		
-		String result = action.execute(actor, map);
-		display.println(result);
+	/**
+	 * Ask an Actor which Action it wants to perform this turn, handing it its plan if it made
+	 * one in {@link #planTurns()}.
+	 *
+	 * @param actor   the Actor whose turn it is
+	 * @param actions the Actions available to the Actor
+	 * @param map     the GameMap containing the Actor
+	 * @return the Action the Actor chose
+	 */
+	protected Action selectAction(Actor actor, ActionList actions, GameMap map) {
+		Action plan = plannedActions.remove(actor);
+		if (plan != null) {
+			if (!plan.isStillValid(actor, map))
+				plan = DoNothingAction.INSTANCE;
+			return actor.playTurn(plan, actions, lastActionMap.get(actor), map, display);
+		}
+		return actor.playTurn(actions, lastActionMap.get(actor), map, display);
 	}
 
 	/**
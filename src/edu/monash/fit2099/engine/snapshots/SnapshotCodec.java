@@ -0,0 +1,77 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import java.util.function.Supplier;
+
+/**
+ * Writes and reads objects of one type in a snapshot.
+ *
+ * A codec is needed for every concrete type that can appear in a snapshot. Types
+ * that can be built with a no-argument constructor and restore the rest of their
+ * state through {@link Snapshottable} can use {@link #of(Supplier)}; types that need
+ * constructor arguments write those first and then build the object in
+ * {@link #read(SnapshotReader)}.
+ *
+ * @param <T> the type of object handled by this codec
+ */
+public interface SnapshotCodec<T> {
+
+	/**
+	 * Write an object.
+	 *
+	 * @param value the object to write, never null
+	 * @param out   the writer to write to
+	 */
+	void write(T value, SnapshotWriter out);
+
+	/**
+	 * Read back an object written by {@link #write(Object, SnapshotWriter)}.
+	 *
+	 * @param in the reader to read from
+	 * @return a new object
+	 */
+	T read(SnapshotReader in);
+
+	/**
+	 * A codec for a Snapshottable type that is built by a factory and then restored
+	 * through its own {@link Snapshottable#readSnapshot(SnapshotReader)}.
+	 *
+	 * @param factory creates a fresh object to restore into
+	 * @param <T>     the type of object
+	 * @return the codec
+	 */
+	static <T extends Snapshottable> SnapshotCodec<T> of(Supplier<? extends T> factory) {
+		return new SnapshotCodec<T>() {
+			@Override
+			public void write(T value, SnapshotWriter out) {
+				value.writeSnapshot(out);
+			}
+
+			@Override
+			public T read(SnapshotReader in) {
+				T value = factory.get();
+				value.readSnapshot(in);
+				return value;
+			}
+		};
+	}
+
+	/**
+	 * A codec for a type with no state worth saving, which is simply built again on reading.
+	 *
+	 * @param factory creates a fresh object
+	 * @param <T>     the type of object
+	 * @return the codec
+	 */
+	static <T> SnapshotCodec<T> stateless(Supplier<? extends T> factory) {
+		return new SnapshotCodec<T>() {
+			@Override
+			public void write(T value, SnapshotWriter out) {
+			}
+
+			@Override
+			public T read(SnapshotReader in) {
+				return factory.get();
+			}
+		};
+	}
+}
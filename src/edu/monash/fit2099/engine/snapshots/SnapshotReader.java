@@ -0,0 +1,260 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the body of a snapshot written by a {@link SnapshotWriter}.
+ *
+ * Every read method mirrors the write method of the same name. Objects are rebuilt
+ * with the codecs registered for their classes; an object that was written more than
+ * once is rebuilt once and shared.
+ */
+public class SnapshotReader {
+	private final SnapshotRegistry registry;
+	private final List<GameMap> maps;
+	private final ByteBuffer buffer;
+	private final List<SnapshotCodec<Object>> codecs = new ArrayList<>();
+	private final List<Enum<?>[]> enumConstants = new ArrayList<>();
+	private final List<Object> read = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param registry the codecs used to read objects
+	 * @param maps     the maps that locations belong to, in the order they were indexed when written
+	 * @param buffer   the bytes to read, from its position to its limit
+	 */
+	public SnapshotReader(SnapshotRegistry registry, List<GameMap> maps, ByteBuffer buffer) {
+		this.registry = Objects.requireNonNull(registry);
+		this.maps = List.copyOf(maps);
+		this.buffer = Objects.requireNonNull(buffer);
+	}
+
+	/**
+	 * Set the class table from a snapshot header.
+	 *
+	 * @param typeNames the class names, indexed by their code
+	 * @throws IllegalArgumentException if a class has no registered codec
+	 */
+	void setTypeNames(List<String> typeNames) {
+		codecs.clear();
+		for (String name : typeNames)
+			codecs.add(registry.codecFor(registry.typeNamed(name)));
+	}
+
+	/**
+	 * Set the enum type table from a snapshot header.
+	 *
+	 * @param enumNames the enum type names, indexed by their code
+	 * @throws IllegalArgumentException if a name is not an enum type
+	 */
+	void setEnumNames(List<String> enumNames) {
+		enumConstants.clear();
+		for (String name : enumNames) {
+			Class<?> type;
+			try {
+				type = Class.forName(name, false, SnapshotReader.class.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				throw new IllegalArgumentException("Unknown enum type in snapshot: " + name, e);
+			}
+			if (!type.isEnum())
+				throw new IllegalArgumentException("Not an enum type: " + name);
+			enumConstants.add((Enum<?>[]) type.getEnumConstants());
+		}
+	}
+
+	/**
+	 * @return true if there is nothing left to read
+	 */
+	public boolean isExhausted() {
+		return !buffer.hasRemaining();
+	}
+
+	/**
+	 * @return the next boolean
+	 */
+	public boolean readBoolean() {
+		return get() != 0;
+	}
+
+	/**
+	 * @return the next count
+	 */
+	public int readCount() {
+		long value = readVarLong();
+		if (value < 0 || value > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Corrupt snapshot: bad count " + value);
+		return (int) value;
+	}
+
+	/**
+	 * @return the next int
+	 */
+	public int readInt() {
+		return (int) readLong();
+	}
+
+	/**
+	 * @return the next long
+	 */
+	public long readLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * @return the next float
+	 */
+	public float readFloat() {
+		try {
+			return buffer.getFloat();
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Corrupt snapshot: unexpected end of data", e);
+		}
+	}
+
+	/**
+	 * @return the next char
+	 */
+	public char readChar() {
+		return (char) readVarLong();
+	}
+
+	/**
+	 * @return the next String, which may be null
+	 */
+	public String readString() {
+		int length = readCount();
+		if (length == 0)
+			return null;
+		if (length - 1 > buffer.remaining())
+			throw new IllegalArgumentException("Corrupt snapshot: unexpected end of data");
+		byte[] bytes = new byte[length - 1];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the next enum constant, which may be null
+	 */
+	public Enum<?> readEnum() {
+		int code = readCount();
+		if (code == 0)
+			return null;
+		int ordinal = readCount();
+		if (code > enumConstants.size() || ordinal >= enumConstants.get(code - 1).length)
+			throw new IllegalArgumentException("Corrupt snapshot: bad enum " + code + ":" + ordinal);
+		return enumConstants.get(code - 1)[ordinal];
+	}
+
+	/**
+	 * Read an enum constant of a known type.
+	 *
+	 * @param type the enum type
+	 * @param <E>  the enum type
+	 * @return the next enum constant, which may be null
+	 * @throws IllegalArgumentException if the constant is of a different type
+	 */
+	public <E extends Enum<E>> E readEnum(Class<E> type) {
+		Enum<?> value = readEnum();
+		if (value != null && value.getDeclaringClass() != type)
+			throw new IllegalArgumentException("Expected " + type.getName() + " but found " + value);
+		return type.cast(value);
+	}
+
+	/**
+	 * @return the next Location, which may be null
+	 */
+	public Location readLocation() {
+		int index = readCount();
+		if (index == 0)
+			return null;
+		if (index > maps.size())
+			throw new IllegalArgumentException("Corrupt snapshot: no map " + (index - 1));
+		int x = readCount();
+		int y = readCount();
+		return maps.get(index - 1).at(x, y);
+	}
+
+	/**
+	 * Read the next object, which may be null.
+	 *
+	 * @return the object
+	 */
+	public Object readObject() {
+		int code = readCount();
+		if (code == 0)
+			return null;
+		if (code == 1) {
+			int id = readCount();
+			if (id >= read.size() || read.get(id) == null)
+				throw new IllegalArgumentException("Corrupt snapshot: bad reference " + id);
+			return read.get(id);
+		}
+		if (code - 2 >= codecs.size())
+			throw new IllegalArgumentException("Corrupt snapshot: bad type code " + code);
+		// Reserve the id first, so ids match the order the writer assigned them in
+		int id = read.size();
+		read.add(null);
+		Object value = codecs.get(code - 2).read(this);
+		read.set(id, value);
+		return value;
+	}
+
+	/**
+	 * Read the next object, which must be of the given type.
+	 *
+	 * @param type the expected type
+	 * @param <T>  the expected type
+	 * @return the object, which may be null
+	 * @throws IllegalArgumentException if the object is of a different type
+	 */
+	public <T> T readObject(Class<T> type) {
+		Object value = readObject();
+		if (value != null && !type.isInstance(value))
+			throw new IllegalArgumentException("Expected " + type.getName() + " but found " + value.getClass().getName());
+		return type.cast(value);
+	}
+
+	/**
+	 * Read a list of objects written by {@link SnapshotWriter#writeObjects(List)}.
+	 *
+	 * @param type the expected type of each element
+	 * @param <T>  the expected type
+	 * @return a new, modifiable list
+	 */
+	public <T> List<T> readObjects(Class<T> type) {
+		int count = readCount();
+		List<T> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			values.add(readObject(type));
+		return values;
+	}
+
+	private byte get() {
+		try {
+			return buffer.get();
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Corrupt snapshot: unexpected end of data", e);
+		}
+	}
+
+	private long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IllegalArgumentException("Corrupt snapshot: malformed number");
+	}
+}
@@ -0,0 +1,87 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The set of codecs a game uses to write and read snapshots.
+ *
+ * Codecs are looked up by the exact class of the object being written. A snapshot
+ * stores each class name once, in a table in its header, and refers to it everywhere
+ * else by a small integer code, so a registry only has to agree with the one that
+ * wrote a snapshot on the classes involved, not on the order they were registered in.
+ */
+public class SnapshotRegistry {
+	private final Map<Class<?>, SnapshotCodec<?>> codecsByType = new HashMap<>();
+	private final Map<String, Class<?>> typesByName = new HashMap<>();
+
+	/**
+	 * Register the codec for a type, replacing any codec already registered for it.
+	 *
+	 * @param type  the exact class of objects handled by the codec
+	 * @param codec the codec
+	 * @param <T>   the type of object
+	 * @return this registry, so registrations can be chained
+	 */
+	public <T> SnapshotRegistry register(Class<T> type, SnapshotCodec<? super T> codec) {
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(codec);
+		codecsByType.put(type, codec);
+		typesByName.put(type.getName(), type);
+		return this;
+	}
+
+	/**
+	 * Register a Snapshottable type that is built by a factory and restores the rest
+	 * of its state itself.
+	 *
+	 * @param type    the exact class of objects built by the factory
+	 * @param factory creates a fresh object to restore into
+	 * @param <T>     the type of object
+	 * @return this registry, so registrations can be chained
+	 */
+	public <T extends Snapshottable> SnapshotRegistry register(Class<T> type, Supplier<? extends T> factory) {
+		return register(type, SnapshotCodec.<T>of(factory));
+	}
+
+	/**
+	 * Returns true if a codec has been registered for the given type.
+	 *
+	 * @param type the class to look up
+	 * @return true if and only if objects of exactly this class can be written
+	 */
+	public boolean isRegistered(Class<?> type) {
+		return codecsByType.containsKey(type);
+	}
+
+	/**
+	 * Find the codec for a type.
+	 *
+	 * @param type the exact class of the object
+	 * @return the codec
+	 * @throws IllegalArgumentException if no codec is registered for the type
+	 */
+	@SuppressWarnings("unchecked")
+	SnapshotCodec<Object> codecFor(Class<?> type) {
+		SnapshotCodec<?> codec = codecsByType.get(type);
+		if (codec == null)
+			throw new IllegalArgumentException("No snapshot codec registered for " + type.getName());
+		return (SnapshotCodec<Object>) codec;
+	}
+
+	/**
+	 * Find a registered type by its class name.
+	 *
+	 * @param name the fully qualified class name stored in a snapshot
+	 * @return the class
+	 * @throws IllegalArgumentException if no codec is registered under that name
+	 */
+	Class<?> typeNamed(String name) {
+		Class<?> type = typesByName.get(name);
+		if (type == null)
+			throw new IllegalArgumentException("No snapshot codec registered for " + name);
+		return type;
+	}
+}
@@ -0,0 +1,247 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes the body of a snapshot into a growable buffer.
+ *
+ * Integers are written as variable-length quantities, so the small counts, codes and
+ * coordinates that make up most of a snapshot take a byte each. Classes and enum types
+ * are written as codes into tables that end up in the snapshot header. An object
+ * written more than once is written in full the first time only, and as a reference
+ * to that first copy after that, so objects shared between locations stay shared
+ * when the snapshot is read back.
+ */
+public class SnapshotWriter {
+	private static final int INITIAL_CAPACITY = 1 << 16;
+
+	private final SnapshotRegistry registry;
+	private final Map<GameMap, Integer> mapIndices = new IdentityHashMap<>();
+	private final Map<Class<?>, Integer> typeCodes = new HashMap<>();
+	private final List<String> typeNames = new ArrayList<>();
+	private final Map<Class<?>, Integer> enumCodes = new HashMap<>();
+	private final List<String> enumNames = new ArrayList<>();
+	private final Map<Object, Integer> written = new IdentityHashMap<>();
+	private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+	/**
+	 * Constructor.
+	 *
+	 * @param registry the codecs used to write objects
+	 * @param maps     the maps that locations may belong to, in the order they are indexed
+	 */
+	public SnapshotWriter(SnapshotRegistry registry, List<GameMap> maps) {
+		this.registry = Objects.requireNonNull(registry);
+		for (int i = 0; i < maps.size(); i++)
+			mapIndices.put(maps.get(i), i);
+	}
+
+	/**
+	 * Write a boolean.
+	 *
+	 * @param value the value
+	 */
+	public void writeBoolean(boolean value) {
+		ensure(1);
+		buffer.put((byte) (value ? 1 : 0));
+	}
+
+	/**
+	 * Write a non-negative int in as few bytes as possible.
+	 *
+	 * @param value the value
+	 * @throws IllegalArgumentException if value is negative
+	 */
+	public void writeCount(int value) {
+		if (value < 0)
+			throw new IllegalArgumentException("Count must not be negative: " + value);
+		writeVarLong(value);
+	}
+
+	/**
+	 * Write an int. Values close to zero, positive or negative, take fewer bytes.
+	 *
+	 * @param value the value
+	 */
+	public void writeInt(int value) {
+		writeLong(value);
+	}
+
+	/**
+	 * Write a long. Values close to zero, positive or negative, take fewer bytes.
+	 *
+	 * @param value the value
+	 */
+	public void writeLong(long value) {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Write a float.
+	 *
+	 * @param value the value
+	 */
+	public void writeFloat(float value) {
+		ensure(Float.BYTES);
+		buffer.putFloat(value);
+	}
+
+	/**
+	 * Write a char.
+	 *
+	 * @param value the value
+	 */
+	public void writeChar(char value) {
+		writeVarLong(value);
+	}
+
+	/**
+	 * Write a String, which may be null.
+	 *
+	 * @param value the value
+	 */
+	public void writeString(String value) {
+		if (value == null) {
+			writeVarLong(0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(bytes.length + 1L);
+		ensure(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Write an enum constant, such as a capability, which may be null.
+	 * It is written as a code for its type and its ordinal.
+	 *
+	 * @param value the value
+	 */
+	public void writeEnum(Enum<?> value) {
+		if (value == null) {
+			writeVarLong(0);
+			return;
+		}
+		Class<?> type = value.getDeclaringClass();
+		Integer code = enumCodes.get(type);
+		if (code == null) {
+			code = enumNames.size();
+			enumCodes.put(type, code);
+			enumNames.add(type.getName());
+		}
+		writeVarLong(code + 1L);
+		writeCount(value.ordinal());
+	}
+
+	/**
+	 * Write a Location, which may be null, as the index of its map and its coordinates.
+	 *
+	 * @param location the value
+	 * @throws IllegalArgumentException if the Location is on a map this writer does not know about
+	 */
+	public void writeLocation(Location location) {
+		if (location == null) {
+			writeVarLong(0);
+			return;
+		}
+		Integer index = mapIndices.get(location.map());
+		if (index == null)
+			throw new IllegalArgumentException("Location " + location + " is not on a map in this snapshot");
+		writeVarLong(index + 1L);
+		writeCount(location.x());
+		writeCount(location.y());
+	}
+
+	/**
+	 * Write an object, which may be null, using the codec registered for its class.
+	 *
+	 * @param value the value
+	 * @throws IllegalArgumentException if no codec is registered for the object's class
+	 */
+	public void writeObject(Object value) {
+		if (value == null) {
+			writeVarLong(0);
+			return;
+		}
+		Integer id = written.get(value);
+		if (id != null) {
+			writeVarLong(1);
+			writeCount(id);
+			return;
+		}
+		Class<?> type = value.getClass();
+		SnapshotCodec<Object> codec = registry.codecFor(type);
+		Integer code = typeCodes.get(type);
+		if (code == null) {
+			code = typeNames.size();
+			typeCodes.put(type, code);
+			typeNames.add(type.getName());
+		}
+		written.put(value, written.size());
+		writeVarLong(code + 2L);
+		codec.write(value, this);
+	}
+
+	/**
+	 * Write a list of objects.
+	 *
+	 * @param values the values
+	 */
+	public void writeObjects(List<?> values) {
+		writeCount(values.size());
+		for (int i = 0; i < values.size(); i++)
+			writeObject(values.get(i));
+	}
+
+	/**
+	 * @return the class names used by this snapshot, indexed by their code
+	 */
+	List<String> getTypeNames() {
+		return typeNames;
+	}
+
+	/**
+	 * @return the enum type names used by this snapshot, indexed by their code
+	 */
+	List<String> getEnumNames() {
+		return enumNames;
+	}
+
+	/**
+	 * @return a read-only view of everything written so far, ready to be read from
+	 */
+	ByteBuffer getBody() {
+		return buffer.duplicate().flip().asReadOnlyBuffer();
+	}
+
+	private void writeVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	private void ensure(int bytes) {
+		if (buffer.remaining() >= bytes)
+			return;
+		int capacity = buffer.capacity();
+		while (capacity - buffer.position() < bytes)
+			capacity *= 2;
+		ByteBuffer grown = ByteBuffer.allocate(capacity);
+		buffer.flip();
+		grown.put(buffer);
+		buffer = grown;
+	}
+}
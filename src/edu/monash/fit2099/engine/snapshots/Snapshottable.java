@@ -0,0 +1,26 @@
+package edu.monash.fit2099.engine.snapshots;
+
+/**
+ * Something whose mutable state can be written to, and read back from, a snapshot.
+ *
+ * Implementations write only the state that their constructor does not already
+ * rebuild, and must read it back in exactly the order it was written. Subclasses
+ * that add state override both methods and call the superclass version first.
+ */
+public interface Snapshottable {
+
+	/**
+	 * Write this object's mutable state.
+	 *
+	 * @param out the writer to write to
+	 */
+	void writeSnapshot(SnapshotWriter out);
+
+	/**
+	 * Replace this object's mutable state with state previously written by
+	 * {@link #writeSnapshot(SnapshotWriter)}.
+	 *
+	 * @param in the reader to read from
+	 */
+	void readSnapshot(SnapshotReader in);
+}
@@ -0,0 +1,77 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A snapshot of part of a World, such as one chunk of a map, that carries its own tables of
+ * class and enum type names and so can be read back on its own.
+ * <p>
+ * The layout is the same as a {@link WorldSnapshot} without the magic number and version:
+ * the two tables, then the body.
+ */
+public final class StandaloneSnapshot {
+
+    private StandaloneSnapshot() {
+    }
+
+    /**
+     * Write a snapshot.
+     *
+     * @param registry the codecs used to write objects
+     * @param maps     the maps that written Locations may belong to
+     * @param body     writes the body
+     * @return a buffer holding the snapshot, ready to be read from
+     * @throws IllegalArgumentException if something written has no registered codec, or is a
+     *                                  Location on a map not in {@code maps}
+     */
+    public static ByteBuffer encode(SnapshotRegistry registry, List<GameMap> maps, Consumer<SnapshotWriter> body) {
+        SnapshotWriter out = new SnapshotWriter(registry, maps);
+        body.accept(out);
+
+        SnapshotWriter header = new SnapshotWriter(registry, List.of());
+        header.writeCount(out.getTypeNames().size());
+        for (String name : out.getTypeNames())
+            header.writeString(name);
+        header.writeCount(out.getEnumNames().size());
+        for (String name : out.getEnumNames())
+            header.writeString(name);
+
+        ByteBuffer headerBytes = header.getBody();
+        ByteBuffer bodyBytes = out.getBody();
+        ByteBuffer snapshot = ByteBuffer.allocate(headerBytes.remaining() + bodyBytes.remaining());
+        snapshot.put(headerBytes).put(bodyBytes);
+        return snapshot.flip();
+    }
+
+    /**
+     * Read a snapshot.
+     *
+     * @param registry the codecs used to read objects
+     * @param maps     the maps that Locations were written from, in the same order
+     * @param snapshot the snapshot, from its position to its limit
+     * @param body     reads the body, which it must read to the end
+     * @throws IllegalArgumentException if the snapshot is not valid, or the body did not read all of it
+     */
+    public static void decode(SnapshotRegistry registry, List<GameMap> maps, ByteBuffer snapshot,
+                              Consumer<SnapshotReader> body) {
+        SnapshotReader in = new SnapshotReader(registry, maps, snapshot);
+        in.setTypeNames(readNames(in));
+        in.setEnumNames(readNames(in));
+        body.accept(in);
+        if (!in.isExhausted())
+            throw new IllegalArgumentException("Corrupt snapshot: unexpected data after the body");
+    }
+
+    private static List<String> readNames(SnapshotReader in) {
+        int count = in.readCount();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            names.add(in.readString());
+        return names;
+    }
+}
@@ -0,0 +1,241 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.NumberRange;
+import edu.monash.fit2099.engine.positions.SharedGrounds;
+import edu.monash.fit2099.engine.positions.World;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Saves the state of a World to a compact binary snapshot, and restores it again.
+ *
+ * A snapshot holds the Ground and Items of every Location on every GameMap, and every
+ * Actor with its Location, in turn order. It does not hold the maps' shapes or exits:
+ * a snapshot is restored into a World that has been set up with the same GameMaps, in
+ * the same order, as the World it was taken from, which is what a game's own setup
+ * code produces. Random streams are not saved, so a restored World draws fresh ones
+ * from {@link edu.monash.fit2099.engine.GameRandom}. Grounds without per-tile state are
+ * restored as the objects {@link SharedGrounds} hands out, and every restored Actor starts
+ * off as though its last Action was to do nothing.
+ *
+ * The format is a four byte magic number and a two byte version, followed by the
+ * table of class names and the table of enum type names used in the snapshot, and
+ * then the body, which refers to those classes and enum types by their index.
+ */
+public class WorldSnapshot {
+	/**
+	 * The first four bytes of every snapshot.
+	 */
+	public static final int MAGIC = 0x564F4953;
+	/**
+	 * The format version written by this class. It must change whenever the
+	 * layout of the body changes.
+	 */
+	public static final short VERSION = 1;
+
+	private final SnapshotRegistry registry;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param registry the codecs for every type of Ground, Item, Actor and StatusEffect in the game
+	 */
+	public WorldSnapshot(SnapshotRegistry registry) {
+		this.registry = Objects.requireNonNull(registry);
+	}
+
+	/**
+	 * Write a snapshot of a World to a file, replacing the file if it exists.
+	 * The snapshot is written to a temporary file first, so a crash part way through
+	 * never leaves a half-written snapshot behind.
+	 *
+	 * @param world the World to save
+	 * @param path  the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(World world, Path path) throws IOException {
+		ByteBuffer snapshot = encode(world);
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (snapshot.hasRemaining())
+				channel.write(snapshot);
+		}
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Restore a World from a snapshot file.
+	 *
+	 * @param world the World to restore into
+	 * @param path  the file to read
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a snapshot of a World like this one
+	 */
+	public void load(World world, Path path) throws IOException {
+		ByteBuffer snapshot;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Snapshot too large: " + path);
+			snapshot = ByteBuffer.allocate((int) size);
+			while (snapshot.hasRemaining() && channel.read(snapshot) >= 0) {
+				// keep reading until the buffer is full
+			}
+		}
+		decode(world, snapshot.flip());
+	}
+
+	/**
+	 * Take a snapshot of a World.
+	 *
+	 * @param world the World to save
+	 * @return a buffer holding the snapshot, ready to be read from
+	 * @throws IllegalArgumentException if something in the World has no registered codec
+	 */
+	public ByteBuffer encode(World world) {
+		List<GameMap> maps = world.getGameMaps();
+		SnapshotWriter body = new SnapshotWriter(registry, maps);
+
+		body.writeCount(maps.size());
+		for (GameMap map : maps) {
+			NumberRange xs = map.getXRange();
+			NumberRange ys = map.getYRange();
+			body.writeCount(xs.size());
+			body.writeCount(ys.size());
+			for (int y = ys.min(); y <= ys.max(); y++) {
+				for (int x = xs.min(); x <= xs.max(); x++) {
+					Location location = map.at(x, y);
+					body.writeObject(location.getGround());
+					body.writeObjects(location.getItems());
+				}
+			}
+		}
+
+		List<Actor> actors = world.getActors();
+		body.writeCount(actors.size());
+		for (Actor actor : actors) {
+			body.writeObject(actor);
+			body.writeLocation(world.locationOf(actor));
+			body.writeBoolean(actor == world.getPlayer());
+		}
+
+		SnapshotWriter header = new SnapshotWriter(registry, List.of());
+		header.writeCount(body.getTypeNames().size());
+		for (String name : body.getTypeNames())
+			header.writeString(name);
+		header.writeCount(body.getEnumNames().size());
+		for (String name : body.getEnumNames())
+			header.writeString(name);
+
+		ByteBuffer headerBytes = header.getBody();
+		ByteBuffer bodyBytes = body.getBody();
+		ByteBuffer snapshot = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + headerBytes.remaining() + bodyBytes.remaining());
+		snapshot.putInt(MAGIC).putShort(VERSION).put(headerBytes).put(bodyBytes);
+		return snapshot.flip();
+	}
+
+	/**
+	 * Restore a World from a snapshot. Nothing in the World changes unless the whole
+	 * snapshot can be read.
+	 *
+	 * @param world    the World to restore into
+	 * @param snapshot the snapshot, from its position to its limit
+	 * @throws IllegalArgumentException if the buffer is not a snapshot of a World like this one
+	 */
+	public void decode(World world, ByteBuffer snapshot) {
+		if (snapshot.remaining() < Integer.BYTES + Short.BYTES || snapshot.getInt() != MAGIC)
+			throw new IllegalArgumentException("Not a world snapshot");
+		short version = snapshot.getShort();
+		if (version != VERSION)
+			throw new IllegalArgumentException("Unsupported snapshot version " + version + ", expected " + VERSION);
+
+		List<GameMap> maps = world.getGameMaps();
+		SnapshotReader in = new SnapshotReader(registry, maps, snapshot);
+		in.setTypeNames(readNames(in));
+		in.setEnumNames(readNames(in));
+
+		int mapCount = in.readCount();
+		if (mapCount != maps.size())
+			throw new IllegalArgumentException("Snapshot has " + mapCount + " maps but the world has " + maps.size());
+		List<Ground[]> grounds = new ArrayList<>(mapCount);
+		List<List<Item>[]> items = new ArrayList<>(mapCount);
+		for (GameMap map : maps) {
+			int width = in.readCount();
+			int height = in.readCount();
+			if (width != map.getXRange().size() || height != map.getYRange().size())
+				throw new IllegalArgumentException("Snapshot map is " + width + "x" + height + " but " + map + " is "
+						+ map.getXRange().size() + "x" + map.getYRange().size());
+			Ground[] mapGrounds = new Ground[width * height];
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			List<Item>[] mapItems = new List[width * height];
+			for (int i = 0; i < mapGrounds.length; i++) {
+				mapGrounds[i] = SharedGrounds.share(in.readObject(Ground.class));
+				mapItems[i] = in.readObjects(Item.class);
+			}
+			grounds.add(mapGrounds);
+			items.add(mapItems);
+		}
+
+		int actorCount = in.readCount();
+		List<Actor> actors = new ArrayList<>(actorCount);
+		List<Location> actorLocations = new ArrayList<>(actorCount);
+		Actor player = null;
+		for (int i = 0; i < actorCount; i++) {
+			actors.add(in.readObject(Actor.class));
+			actorLocations.add(in.readLocation());
+			if (in.readBoolean())
+				player = actors.get(i);
+		}
+		if (!in.isExhausted())
+			throw new IllegalArgumentException("Corrupt snapshot: unexpected data after the last actor");
+
+		world.clearActors();
+		for (int m = 0; m < maps.size(); m++) {
+			GameMap map = maps.get(m);
+			NumberRange xs = map.getXRange();
+			NumberRange ys = map.getYRange();
+			int i = 0;
+			for (int y = ys.min(); y <= ys.max(); y++) {
+				for (int x = xs.min(); x <= xs.max(); x++, i++) {
+					Location location = map.at(x, y);
+					location.setGround(grounds.get(m)[i]);
+					for (Item item : List.copyOf(location.getItems()))
+						location.removeItem(item);
+					for (Item item : items.get(m)[i])
+						location.addItem(item);
+				}
+			}
+		}
+		for (int i = 0; i < actors.size(); i++) {
+			Actor actor = actors.get(i);
+			Location location = actorLocations.get(i);
+			if (actor == player)
+				world.addPlayer(actor, location);
+			else
+				world.addActor(actor, location);
+		}
+	}
+
+	private static List<String> readNames(SnapshotReader in) {
+		int count = in.readCount();
+		List<String> names = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			names.add(in.readString());
+		return names;
+	}
+}
@@ -5,6 +5,7 @@
  */
 package game;
 
+import edu.monash.fit2099.engine.GameRandom;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.FancyGroundFactory;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -39,13 +40,19 @@ public class Application {
      * Main method to run the game application. Sets up the game world, map, player, NPCs, and
      * items.
      *
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments. An optional first argument is the random seed, so a
+     *             session can be replayed by starting it again with the same seed and inputs.
      */
     public static void main(String[] args) {
+        // The seed must be set before anything that owns a random stream is created
+        if (args.length > 0) {
+            GameRandom.setSeed(Long.parseLong(args[0]));
+        }
 
-        World world = new World(new Display());
+        Display display = new Display();
+        World world = new World(display);
 
-        FancyGroundFactory groundFactory = new FancyGroundFactory(new Blight(), new Wall(),
+        FancyGroundFactory groundFactory = FancyGroundFactory.withSharedGrounds(new Blight(), new Wall(),
                 new Floor(), new Soil());
 
         List<String> map = Arrays.asList("xxxx...xxxxxxxxxxxxxxxxxxxxxxx........xx",
@@ -96,6 +103,11 @@ public class Application {
             }
         }
 
+        // A generated seed is shown so the session can be replayed
+        if (args.length == 0) {
+            display.println("Seed: " + GameRandom.getSeed());
+        }
+
         //Create TeleportationGate
         TeleportationGate gateInValley = new TeleportationGate();
         TeleportationGate gateInLimveld = new TeleportationGate();
@@ -0,0 +1,231 @@
+package game;
+
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.snapshots.SnapshotCodec;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotRegistry;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.WorldSnapshot;
+import game.actors.Player;
+import game.actors.creatures.Creature;
+import game.actors.creatures.GoldenBeetle;
+import game.actors.creatures.OmenSheep;
+import game.actors.creatures.SpiritGoat;
+import game.actors.creatures.boss.BedOfChaos;
+import game.actors.npc.NpcGuts;
+import game.actors.npc.NpcKale;
+import game.actors.npc.NpcSellen;
+import game.behaviours.behaviourselectors.BehaviourSelector;
+import game.behaviours.behaviourselectors.PriorityBehaviourSelector;
+import game.behaviours.behaviourselectors.RandomBehaviourSelector;
+import game.effects.ContinuousDamageEffect;
+import game.fishing.FishingRod;
+import game.fishing.GoldenFish;
+import game.fishing.OldBoot;
+import game.fishing.Pond;
+import game.fishing.SalmonFish;
+import game.fishing.Shovel;
+import game.fishing.ToxicEel;
+import game.grounds.Blight;
+import game.grounds.BurningGround;
+import game.grounds.Floor;
+import game.grounds.Soil;
+import game.grounds.TemporaryGround;
+import game.grounds.Wall;
+import game.hatching.GoldenBeetleEgg;
+import game.hatching.OmenSheepEgg;
+import game.healing.items.Talisman;
+import game.plants.Bloodrose;
+import game.plants.BloodroseSeed;
+import game.plants.Inheritree;
+import game.plants.InheritreeSeed;
+import game.spells.FireSpell;
+import game.spells.HealSpell;
+import game.spells.PoisonSpell;
+import game.spells.TeleportSpell;
+import game.teleport.TeleportationGate;
+import game.weapons.Broadsword;
+import game.weapons.DragonslayerGreatsword;
+import game.weapons.Katana;
+import java.util.function.Function;
+
+/**
+ * The snapshot codecs for every type of Ground, Item, Actor and StatusEffect in this game.
+ * <p>
+ * Types with a no-argument constructor are rebuilt with it and then restore their own state.
+ * Types that take constructor arguments, such as {@link TemporaryGround} or the creatures'
+ * {@link BehaviourSelector}, have those arguments written ahead of their state.
+ */
+public class GameSnapshots {
+
+    private GameSnapshots() {
+    }
+
+    /**
+     * Creates a registry holding a codec for every snapshottable type in the game.
+     *
+     * @return a new registry
+     */
+    public static SnapshotRegistry registry() {
+        SnapshotRegistry registry = new SnapshotRegistry()
+                // Grounds
+                .register(Blight.class, Blight::new)
+                .register(BurningGround.class, BurningGround::new)
+                .register(Floor.class, Floor::new)
+                .register(Soil.class, Soil::new)
+                .register(Wall.class, Wall::new)
+                .register(Pond.class, Pond::new)
+                .register(TeleportationGate.class, TeleportationGate::new)
+                .register(Bloodrose.class, Bloodrose::new)
+                .register(Inheritree.class, Inheritree::new)
+                .register(TemporaryGround.class, new TemporaryGroundCodec())
+                // Items
+                .register(FishingRod.class, FishingRod::new)
+                .register(GoldenFish.class, GoldenFish::new)
+                .register(OldBoot.class, OldBoot::new)
+                .register(SalmonFish.class, SalmonFish::new)
+                .register(Shovel.class, Shovel::new)
+                .register(ToxicEel.class, ToxicEel::new)
+                .register(GoldenBeetleEgg.class, GoldenBeetleEgg::new)
+                .register(OmenSheepEgg.class, OmenSheepEgg::new)
+                .register(Talisman.class, Talisman::new)
+                .register(BloodroseSeed.class, BloodroseSeed::new)
+                .register(InheritreeSeed.class, InheritreeSeed::new)
+                .register(FireSpell.class, FireSpell::new)
+                .register(HealSpell.class, HealSpell::new)
+                .register(PoisonSpell.class, PoisonSpell::new)
+                .register(TeleportSpell.class, TeleportSpell::new)
+                .register(Broadsword.class, Broadsword::new)
+                .register(DragonslayerGreatsword.class, DragonslayerGreatsword::new)
+                .register(Katana.class, Katana::new)
+                // Actors
+                .register(Player.class, new PlayerCodec())
+                .register(NpcGuts.class, NpcGuts::new)
+                .register(NpcKale.class, NpcKale::new)
+                .register(NpcSellen.class, NpcSellen::new)
+                .register(GoldenBeetle.class, new CreatureCodec<>(GoldenBeetle::new))
+                .register(OmenSheep.class, new CreatureCodec<>(OmenSheep::new))
+                .register(SpiritGoat.class, new CreatureCodec<>(SpiritGoat::new))
+                .register(BedOfChaos.class, new BedOfChaosCodec())
+                .register(PriorityBehaviourSelector.class, SnapshotCodec.stateless(PriorityBehaviourSelector::new))
+                .register(RandomBehaviourSelector.class, SnapshotCodec.stateless(RandomBehaviourSelector::new))
+                // Status effects
+                .register(ContinuousDamageEffect.class, new ContinuousDamageEffectCodec());
+        return registry;
+    }
+
+    /**
+     * Creates a WorldSnapshot that can save and restore worlds built by {@link Application}.
+     *
+     * @return a new WorldSnapshot
+     */
+    public static WorldSnapshot worldSnapshot() {
+        return new WorldSnapshot(registry());
+    }
+
+    /**
+     * Writes the original and temporary grounds ahead of the wrapper's own state.
+     */
+    private static class TemporaryGroundCodec implements SnapshotCodec<TemporaryGround> {
+        @Override
+        public void write(TemporaryGround value, SnapshotWriter out) {
+            out.writeObject(value.getOriginalGround());
+            out.writeObject(value.getTemporaryGround());
+            value.writeSnapshot(out);
+        }
+
+        @Override
+        public TemporaryGround read(SnapshotReader in) {
+            Ground originalGround = in.readObject(Ground.class);
+            Ground temporaryGround = in.readObject(Ground.class);
+            TemporaryGround ground = new TemporaryGround(originalGround, temporaryGround, 0);
+            ground.readSnapshot(in);
+            return ground;
+        }
+    }
+
+    /**
+     * Writes the player's name ahead of its actor state. Everything else the constructor
+     * sets up, including hit points, is overwritten by the restored state.
+     */
+    private static class PlayerCodec implements SnapshotCodec<Player> {
+        @Override
+        public void write(Player value, SnapshotWriter out) {
+            out.writeString(value.toString());
+            value.writeSnapshot(out);
+        }
+
+        @Override
+        public Player read(SnapshotReader in) {
+            Player player = new Player(in.readString(), '@', 0);
+            player.readSnapshot(in);
+            return player;
+        }
+    }
+
+    /**
+     * Writes a creature's behaviour selector ahead of its actor state, so creatures that
+     * shared a selector still share one after restoring.
+     *
+     * @param <T> the type of creature
+     */
+    private static class CreatureCodec<T extends Creature> implements SnapshotCodec<T> {
+        private final Function<BehaviourSelector, T> factory;
+
+        CreatureCodec(Function<BehaviourSelector, T> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public void write(T value, SnapshotWriter out) {
+            out.writeObject(value.getBehaviourSelector());
+            value.writeSnapshot(out);
+        }
+
+        @Override
+        public T read(SnapshotReader in) {
+            T creature = factory.apply(in.readObject(BehaviourSelector.class));
+            creature.readSnapshot(in);
+            return creature;
+        }
+    }
+
+    /**
+     * Writes the boss's part limit ahead of its actor state and part tree.
+     */
+    private static class BedOfChaosCodec implements SnapshotCodec<BedOfChaos> {
+        @Override
+        public void write(BedOfChaos value, SnapshotWriter out) {
+            out.writeCount(value.getParts().getMaxParts());
+            value.writeSnapshot(out);
+        }
+
+        @Override
+        public BedOfChaos read(SnapshotReader in) {
+            BedOfChaos boss = new BedOfChaos(in.readCount());
+            boss.readSnapshot(in);
+            return boss;
+        }
+    }
+
+    /**
+     * Writes the effect's name and damage ahead of its remaining duration.
+     */
+    private static class ContinuousDamageEffectCodec implements SnapshotCodec<ContinuousDamageEffect> {
+        @Override
+        public void write(ContinuousDamageEffect value, SnapshotWriter out) {
+            out.writeString(value.toString());
+            out.writeInt(value.getDamagePerTurn());
+            value.writeSnapshot(out);
+        }
+
+        @Override
+        public ContinuousDamageEffect read(SnapshotReader in) {
+            String name = in.readString();
+            int damagePerTurn = in.readInt();
+            ContinuousDamageEffect effect = new ContinuousDamageEffect(name, 0, damagePerTurn);
+            effect.readSnapshot(in);
+            return effect;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.behaviours.behaviourselectors.BehaviourSelector;
 import game.behaviours.behaviourselectors.PriorityBehaviourSelector;
+import game.weapons.actions.AttackAction;
+import game.weapons.actions.AttackActions;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -32,6 +34,17 @@ public abstract class Creature extends Actor {
      */
     private final BehaviourSelector behaviourSelector;
 
+    /**
+     * The action planned ahead of this turn by {@link #planTurn(GameMap)}, while the turn is
+     * being played. Null otherwise, or if the creature is deciding during its turn.
+     */
+    private Action plannedAction;
+
+    /**
+     * The attacks on this creature, kept so the same ones can be offered every turn.
+     */
+    private final AttackActions attackActions = new AttackActions(this);
+
     /**
      * Constructor for the Creature class. Initializes basic actor properties. Calls the constructor
      * of the superclass {@link Actor}.
@@ -64,6 +77,15 @@ public abstract class Creature extends Actor {
     }
 
 
+    /**
+     * Returns the strategy this creature uses to select its behaviours.
+     *
+     * @return the behaviour selector
+     */
+    public BehaviourSelector getBehaviourSelector() {
+        return behaviourSelector;
+    }
+
     /**
      * Selects and returns an action to perform on the current turn based on assigned behaviours and
      * the configured behaviour selection strategy. The BehaviourSelector determines which behaviour
@@ -73,6 +95,17 @@ public abstract class Creature extends Actor {
      */
     protected abstract void initializeBehaviours();
 
+    /**
+     * Returns the attack on this creature from a direction, with the attacker's intrinsic weapon.
+     * The same action is returned every time, for use in {@code allowableActions}.
+     *
+     * @param direction the direction of this creature from the attacker
+     * @return the attack
+     */
+    protected AttackAction attackFrom(String direction) {
+        return attackActions.from(direction);
+    }
+
     /**
      * Add a behaviour to this creature's behaviour list.
      *
@@ -99,14 +132,51 @@ public abstract class Creature extends Actor {
      */
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        // Use the behaviour selector to choose an action from available behaviours
-        Action selectedAction = behaviourSelector.selectBehaviour(behaviours, this, map);
+        // Use the planned action if there is one, otherwise choose from available behaviours now
+        Action selectedAction = plannedAction != null ? plannedAction
+                : behaviourSelector.selectBehaviour(behaviours, this, map);
 
         if (selectedAction != null) {
             return selectedAction;
         }
 
         // If no behaviour produces a valid action, do nothing
-        return new DoNothingAction();
+        return DoNothingAction.INSTANCE;
+    }
+
+    /**
+     * Chooses an action from the creature's behaviours ahead of its turn. Behaviours only look at
+     * the map and draw from the creature's own random generator, so creatures can plan at the same
+     * time.
+     *
+     * @param map the {@link GameMap} containing the creature
+     * @return the action chosen by the behaviour selector, or null if no behaviour applies
+     */
+    @Override
+    public Action planTurn(GameMap map) {
+        return behaviourSelector.selectBehaviour(behaviours, this, map);
+    }
+
+    /**
+     * Plays the turn as {@link #playTurn(ActionList, Action, GameMap, Display)} does, so that
+     * subclasses still do their own per-turn upkeep first, but takes the planned action instead of
+     * consulting the behaviours again.
+     *
+     * @param plan       the action planned for this turn
+     * @param actions    collection of possible Actions for this Actor
+     * @param lastAction The Action this Actor took the last turn
+     * @param map        the {@link GameMap} containing the Actor
+     * @param display    the {@link Display} I/O object to which messages may be written
+     * @return the Action to be performed
+     */
+    @Override
+    public Action playTurn(Action plan, ActionList actions, Action lastAction, GameMap map,
+            Display display) {
+        plannedAction = plan;
+        try {
+            return playTurn(actions, lastAction, map, display);
+        } finally {
+            plannedAction = null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,8 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.behaviours.FollowBehaviour;
 import game.behaviours.ProduceBehaviour;
 import game.behaviours.WanderBehaviour;
@@ -156,7 +158,7 @@ public class GoldenBeetle extends Creature implements ActorProducible, Eatable {
         }
 
         if (otherActor.hasCapability(GeneralCapability.HOSTILE_TO_ENEMY)) {
-            actionsList.add(new AttackAction(this, direction));
+            actionsList.add(this.attackFrom(direction));
         }
 
         return actionsList;
@@ -194,4 +196,26 @@ public class GoldenBeetle extends Creature implements ActorProducible, Eatable {
     public String getEatMenuDescription(Actor actor) {
         return actor + " eat " + this;
     }
+
+    /**
+     * Writes the Golden Beetle's actor state and its egg production counter to a snapshot.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeCount(this.turnsSinceEggProduced);
+    }
+
+    /**
+     * Restores the Golden Beetle's actor state and its egg production counter from a snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        this.turnsSinceEggProduced = in.readCount();
+    }
 }
\ No newline at end of file
@@ -6,9 +6,12 @@ import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.CatchUp;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.behaviours.ProduceBehaviour;
 import game.behaviours.WanderBehaviour;
 import game.behaviours.behaviourselectors.BehaviourSelector;
@@ -29,7 +32,7 @@ import game.weapons.actions.AttackAction;
  * cause {@link Inheritree} plants to grow on adjacent tiles. Omen Sheep can also produce
  * {@link OmenSheepEgg} periodically.
  */
-public class OmenSheep extends Creature implements Curable, Rotatable, ActorProducible {
+public class OmenSheep extends Creature implements Curable, Rotatable, ActorProducible, CatchUp {
 
     /**
      * Display character representing the Omen Sheep on the game map.
@@ -117,7 +120,7 @@ public class OmenSheep extends Creature implements Curable, Rotatable, ActorProd
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
         this.tickRotCountdown(map);
         if (this.isRotExpired()) {
-            return new DoNothingAction();
+            return DoNothingAction.INSTANCE;
         }
 
         this.turnsSinceEggProduced++;
@@ -125,6 +128,21 @@ public class OmenSheep extends Creature implements Curable, Rotatable, ActorProd
         return super.playTurn(actions, lastAction, map, display);
     }
 
+    /**
+     * Makes up for turns missed while this sheep's map was dormant: the rot counts down, and
+     * if the sheep is still conscious the turns count towards its next egg.
+     *
+     * @param location The sheep's location.
+     * @param turns    The number of turns missed.
+     */
+    @Override
+    public void catchUp(Location location, int turns) {
+        this.tickRotCountdown(location.map(), turns);
+        if (!this.isRotExpired()) {
+            this.turnsSinceEggProduced += turns;
+        }
+    }
+
 
     /**
      * Returns a list of actions that the {@code otherActor} can perform on this OmenSheep. Allows
@@ -156,7 +174,7 @@ public class OmenSheep extends Creature implements Curable, Rotatable, ActorProd
         }
         // Allow attack if the other actor is hostile
         if (otherActor.hasCapability(GeneralCapability.HOSTILE_TO_ENEMY)) {
-            actions.add(new AttackAction(this, direction));
+            actions.add(this.attackFrom(direction));
         }
 
         return actions;
@@ -282,4 +300,30 @@ public class OmenSheep extends Creature implements Curable, Rotatable, ActorProd
     public int getCurrentRotCountdown() {
         return this.currentRotCountdown;
     }
+
+    /**
+     * Writes the Omen Sheep's actor state, rot countdown and egg production counter to a
+     * snapshot.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeInt(this.currentRotCountdown);
+        out.writeCount(this.turnsSinceEggProduced);
+    }
+
+    /**
+     * Restores the Omen Sheep's actor state, rot countdown and egg production counter from a
+     * snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        this.currentRotCountdown = in.readInt();
+        this.turnsSinceEggProduced = in.readCount();
+    }
 }
\ No newline at end of file
@@ -15,6 +15,19 @@ public interface Rotatable {
      */
     void tickRotCountdown(GameMap map);
 
+    /**
+     * Counts down several turns at once, e.g. those missed while the actor's map was dormant,
+     * handling expiry if the countdown runs out.
+     *
+     * @param map   The map the actor is on.
+     * @param turns The number of turns to count down.
+     */
+    default void tickRotCountdown(GameMap map, int turns) {
+        for (int i = 0; i < turns && !isRotExpired(); i++) {
+            tickRotCountdown(map);
+        }
+    }
+
     /**
      * Resets the rot countdown timer back to its initial value.
      */
@@ -6,9 +6,12 @@ import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.CatchUp;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.behaviours.ProduceBehaviour;
 import game.behaviours.WanderBehaviour;
 import game.behaviours.behaviourselectors.BehaviourSelector;
@@ -30,7 +33,7 @@ import game.weapons.actions.AttackAction;
  * produce new Spirit Goats when near a {@link GeneralCapability#BLESSED} entity. This class
  * implements {@link Curable}, {@link Rotatable}, and {@link ActorProducible}.
  */
-public class SpiritGoat extends Creature implements Curable, Rotatable, ActorProducible {
+public class SpiritGoat extends Creature implements Curable, Rotatable, ActorProducible, CatchUp {
 
     /**
      * The initial number of turns the Spirit Goat survives with Crimson Rot before becoming
@@ -113,12 +116,23 @@ public class SpiritGoat extends Creature implements Curable, Rotatable, ActorPro
 
         // If the goat became unconscious due to rot, don't get another action
         if (this.isRotExpired()) {
-            return new DoNothingAction(); // Actor is unconscious, cannot act
+            return DoNothingAction.INSTANCE; // Actor is unconscious, cannot act
         }
 
         return super.playTurn(actions, lastAction, map, display);
     }
 
+    /**
+     * Makes up for turns missed while this goat's map was dormant by counting down its rot.
+     *
+     * @param location The goat's location.
+     * @param turns    The number of turns missed.
+     */
+    @Override
+    public void catchUp(Location location, int turns) {
+        this.tickRotCountdown(location.map(), turns);
+    }
+
     /**
      * Returns a list of actions that the {@code otherActor} can perform on this SpiritGoat. Allows
      * {@link AttackAction} if the {@code otherActor} has the
@@ -150,7 +164,7 @@ public class SpiritGoat extends Creature implements Curable, Rotatable, ActorPro
 
         // Allow attack if the other actor is hostile
         if (otherActor.hasCapability(GeneralCapability.HOSTILE_TO_ENEMY)) {
-            actions.add(new AttackAction(this, direction));
+            actions.add(this.attackFrom(direction));
         }
         return actions;
     }
@@ -285,4 +299,26 @@ public class SpiritGoat extends Creature implements Curable, Rotatable, ActorPro
         }
         return producer + " feels blessed but cannot find a spot for new life.";
     }
+
+    /**
+     * Writes the Spirit Goat's actor state and rot countdown to a snapshot.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeInt(this.currentRotCountdown);
+    }
+
+    /**
+     * Restores the Spirit Goat's actor state and rot countdown from a snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        this.currentRotCountdown = in.readInt();
+    }
 }
\ No newline at end of file
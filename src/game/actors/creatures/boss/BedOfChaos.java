@@ -4,11 +4,13 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.CatchUp;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.actors.creatures.Creature;
-import game.actors.creatures.boss.parts.BossPart;
-import game.actors.creatures.boss.parts.Branch;
-import game.actors.creatures.boss.parts.Leaf;
+import game.actors.creatures.boss.parts.BossPartTree;
 import game.behaviours.AttackConditionEvaluator;
 import game.behaviours.AttackBehaviour;
 import game.capabilities.GeneralCapability;
@@ -16,9 +18,6 @@ import game.growingparts.GrowPartBehaviour;
 import game.growingparts.Growable;
 import game.weapons.BedOfChaosClaw;
 import game.weapons.actions.AttackAction;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 
 /**
  * Represents the Bed of Chaos, a boss creature in the game.
@@ -26,7 +25,7 @@ import java.util.Random;
  * Its power increases as it grows more parts. It implements {@link AttackConditionEvaluator} to define its
  * attack logic and {@link Growable} to handle its growth mechanics.
  */
-public class BedOfChaos extends Creature implements AttackConditionEvaluator, Growable {
+public class BedOfChaos extends Creature implements AttackConditionEvaluator, Growable, CatchUp {
 
     /**
      * The base damage dealt by the Bed of Chaos's intrinsic weapon.
@@ -49,14 +48,14 @@ public class BedOfChaos extends Creature implements AttackConditionEvaluator, Gr
     private static final int PRIORITY_GROW = 5;
 
     /**
-     * Random number generator for growth decisions.
+     * The default maximum number of parts the Bed of Chaos can grow.
      */
-    private final Random random = new Random();
+    public static final int DEFAULT_MAX_PARTS = 200;
 
     /**
-     * A list of the direct parts attached to the Bed of Chaos.
+     * The parts grown by the Bed of Chaos, aggregated by kind.
      */
-    private final List<BossPart> directParts = new ArrayList<>();
+    private final BossPartTree parts;
 
     /**
      * The intrinsic weapon of the Bed of Chaos.
@@ -66,11 +65,22 @@ public class BedOfChaos extends Creature implements AttackConditionEvaluator, Gr
     /**
      * Constructor for the Bed of Chaos.
      * Initializes the boss with its name, display character, and health, and sets its intrinsic weapon.
+     * The boss can grow up to {@link #DEFAULT_MAX_PARTS} parts.
      */
     public BedOfChaos() {
+        this(DEFAULT_MAX_PARTS);
+    }
+
+    /**
+     * Constructor for a Bed of Chaos with a custom limit on the number of parts it can grow.
+     *
+     * @param maxParts the maximum number of parts the boss can grow
+     * @throws IllegalArgumentException if maxParts is negative
+     */
+    public BedOfChaos(int maxParts) {
         super("Bed of Chaos", 'T', 1000);
+        this.parts = new BossPartTree(maxParts);
         this.setIntrinsicWeapon(bossWeapon);
-
     }
 
     /**
@@ -117,27 +127,38 @@ public class BedOfChaos extends Creature implements AttackConditionEvaluator, Gr
 
     /**
      * Attempts to grow a new part.
-     * The Bed of Chaos will randomly grow either a Branch or a Leaf. It then triggers the growth process for all its parts.
+     * The Bed of Chaos will randomly grow either a Branch or a Leaf, then every productive Branch grows once
+     * and every Leaf heals the boss. Growth stops once the configured number of parts is reached.
      *
      * @return a String detailing what parts were grown.
      */
     @Override
     public String attemptGrow() {
-        StringBuilder growMessage = new StringBuilder();
-        if (random.nextBoolean()) {
-            directParts.add(new Branch());
-            growMessage.append("It grows a Branch...\n");
-        } else {
-            directParts.add(new Leaf());
-            growMessage.append("It grows a Leaf...\n");
+        return parts.grow(this);
+    }
+
+    /**
+     * Makes up for turns missed while the boss's map was dormant. If nobody is next to it, as
+     * {@link GrowPartBehaviour} requires, it grows once for each turn until its part tree is
+     * full, and its leaves heal it for every turn after that in one go.
+     *
+     * @param location the boss's location
+     * @param turns    the number of turns missed
+     */
+    @Override
+    public void catchUp(Location location, int turns) {
+        if (location.map().actorsWithin(location, 1).size() > 1) {
+            return;
         }
-        int index = 0;
-        while (index < directParts.size()) {
-            BossPart bossPart = directParts.get(index);
-            growMessage.append(bossPart.grow(this, directParts));
-            index++;
+        int grown = 0;
+        while (grown < turns && parts.size() < parts.getMaxParts()) {
+            attemptGrow();
+            grown++;
+        }
+        long healing = (long) (turns - grown) * parts.getHealContribution();
+        if (healing > 0) {
+            this.heal((int) Math.min(Integer.MAX_VALUE, healing));
         }
-        return growMessage.toString();
     }
 
     /**
@@ -146,11 +167,16 @@ public class BedOfChaos extends Creature implements AttackConditionEvaluator, Gr
      * @return the total additional damage.
      */
     public int getDamageContribution() {
-        int totalAdditionalDamage = 0;
-        for (BossPart bossPart : directParts) {
-            totalAdditionalDamage += bossPart.getDamageContribution();
-        }
-        return totalAdditionalDamage;
+        return parts.getDamageContribution();
+    }
+
+    /**
+     * Returns the parts grown by the Bed of Chaos.
+     *
+     * @return the aggregated part tree
+     */
+    public BossPartTree getParts() {
+        return parts;
     }
 
     /**
@@ -166,8 +192,30 @@ public class BedOfChaos extends Creature implements AttackConditionEvaluator, Gr
     public ActionList allowableActions(Actor otherActor, String direction, GameMap map) {
         ActionList actions = super.allowableActions(otherActor, direction, map);
         if (otherActor.hasCapability(GeneralCapability.HOSTILE_TO_ENEMY)) {
-            actions.add(new AttackAction(this, direction));
+            actions.add(this.attackFrom(direction));
         }
         return actions;
     }
+
+    /**
+     * Writes the boss's actor state followed by its part tree.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        parts.writeSnapshot(out);
+    }
+
+    /**
+     * Restores the boss's actor state followed by its part tree.
+     *
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        parts.readSnapshot(in);
+    }
 }
\ No newline at end of file
@@ -1,31 +1,27 @@
 package game.actors.creatures.boss.parts;
 
-import edu.monash.fit2099.engine.actors.Actor;
-import java.util.List;
-
 /**
- * An interface for components that make up a larger boss entity.
- * Each BossPart can contribute to the boss's overall power and has its own growth logic.
+ * An interface for the kinds of component that make up a larger boss entity.
+ * Each BossPart describes how much one part of its kind contributes to the boss's overall power.
+ * Parts are counted rather than stored individually, so implementations hold no per-part state.
  *
+ * @see BossPartTree
  * @see game.actors.creatures.boss.BedOfChaos
  */
 public interface BossPart {
 
     /**
-     * Gets the amount of additional damage this part contributes to the boss's attacks.
+     * Gets the amount of additional damage one part of this kind contributes to the boss's attacks.
      *
      * @return the damage contribution as an integer.
      */
     int getDamageContribution();
 
     /**
-     * Defines the growth behaviour for this part.
-     * This method can trigger further growth, add new parts to the boss, or have other effects.
+     * Gets the amount of health one part of this kind restores to the boss each time the boss grows.
      *
-     * @param actor       The main body of the boss to which this part belongs.
-     * @param directParts The list of parts directly attached to the boss, which can be modified by this method.
-     * @return A string describing the growth that occurred.
+     * @return the heal contribution as an integer.
      */
-    String grow(Actor actor, List<BossPart> directParts);
+    int getHealContribution();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,252 @@
+package game.actors.creatures.boss.parts;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
+import java.util.random.RandomGenerator;
+
+/**
+ * An aggregated record of the parts grown by a boss.
+ * Rather than keeping one object per part, the tree keeps a count per kind of part together with a
+ * running damage total and heal sum, so memory and the cost of a growth step are bounded by the
+ * configured cap no matter how long the boss has been growing.
+ *
+ * <p>A growth step first grows one direct part, then lets every productive branch grow exactly once,
+ * including branches grown earlier in the same step. A branch that grows a leaf becomes dormant.
+ * Once the tree holds {@code maxParts} parts it stops growing, but its leaves still heal the boss.</p>
+ *
+ * @see BossPart
+ * @see game.actors.creatures.boss.BedOfChaos
+ */
+public class BossPartTree implements Snapshottable {
+
+    /**
+     * The kind of part used to value branches.
+     */
+    private static final BossPart BRANCH = new Branch();
+
+    /**
+     * The kind of part used to value leaves.
+     */
+    private static final BossPart LEAF = new Leaf();
+
+    /**
+     * The maximum number of parts the tree may hold.
+     */
+    private final int maxParts;
+
+    /**
+     * The number of branches that can still grow.
+     */
+    private int productiveBranches;
+
+    /**
+     * The number of branches that have grown a leaf and no longer grow.
+     */
+    private int dormantBranches;
+
+    /**
+     * The number of leaves.
+     */
+    private int leaves;
+
+    /**
+     * The sum of the damage contributions of all parts.
+     */
+    private int damageContribution;
+
+    /**
+     * The sum of the heal contributions of all parts.
+     */
+    private int healContribution;
+
+    /**
+     * Constructor.
+     *
+     * @param maxParts the maximum number of parts the tree may hold
+     * @throws IllegalArgumentException if maxParts is negative
+     */
+    public BossPartTree(int maxParts) {
+        if (maxParts < 0) {
+            throw new IllegalArgumentException("maxParts must not be negative: " + maxParts);
+        }
+        this.maxParts = maxParts;
+    }
+
+    /**
+     * Performs one growth step for the given boss and heals it by the leaves' heal sum.
+     * Every random choice is drawn from the boss's own generator.
+     *
+     * @param boss the main body of the boss to which the parts belong
+     * @return a String summarising what grew, and how much the boss was healed
+     */
+    public String grow(Actor boss) {
+        RandomGenerator random = boss.getRandom();
+        StringBuilder growMessage = new StringBuilder();
+
+        if (size() < maxParts) {
+            if (random.nextBoolean()) {
+                addBranch();
+                growMessage.append("It grows a Branch...\n");
+            } else {
+                addLeaf();
+                growMessage.append("It grows a Leaf...\n");
+            }
+        }
+
+        int growingBranches = 0;
+        int branchesGrown = 0;
+        int leavesGrown = 0;
+        int pending = productiveBranches;
+        while (pending > 0 && size() < maxParts) {
+            pending--;
+            growingBranches++;
+            if (random.nextBoolean()) {
+                addBranch();
+                branchesGrown++;
+                pending++;
+            } else {
+                addLeaf();
+                leavesGrown++;
+                productiveBranches--;
+                dormantBranches++;
+            }
+        }
+        if (growingBranches > 0) {
+            growMessage.append(growingBranches).append(" Branches grow ")
+                    .append(branchesGrown).append(" Branches and ")
+                    .append(leavesGrown).append(" Leaves...\n");
+        }
+
+        if (healContribution > 0) {
+            boss.heal(healContribution);
+            growMessage.append(boss).append(" is healed by ").append(healContribution).append("\n");
+        }
+        return growMessage.toString();
+    }
+
+    /**
+     * Adds a productive branch.
+     */
+    private void addBranch() {
+        productiveBranches++;
+        damageContribution += BRANCH.getDamageContribution();
+        healContribution += BRANCH.getHealContribution();
+    }
+
+    /**
+     * Adds a leaf.
+     */
+    private void addLeaf() {
+        leaves++;
+        damageContribution += LEAF.getDamageContribution();
+        healContribution += LEAF.getHealContribution();
+    }
+
+    /**
+     * Returns the total number of parts in the tree.
+     *
+     * @return the number of branches and leaves
+     */
+    public int size() {
+        return productiveBranches + dormantBranches + leaves;
+    }
+
+    /**
+     * Returns the maximum number of parts the tree may hold.
+     *
+     * @return the cap
+     */
+    public int getMaxParts() {
+        return maxParts;
+    }
+
+    /**
+     * Returns the number of branches, productive or dormant.
+     *
+     * @return the branch count
+     */
+    public int getBranchCount() {
+        return productiveBranches + dormantBranches;
+    }
+
+    /**
+     * Returns the number of branches that can still grow.
+     *
+     * @return the productive branch count
+     */
+    public int getProductiveBranchCount() {
+        return productiveBranches;
+    }
+
+    /**
+     * Returns the number of leaves.
+     *
+     * @return the leaf count
+     */
+    public int getLeafCount() {
+        return leaves;
+    }
+
+    /**
+     * Returns the additional damage contributed by every part in the tree.
+     *
+     * @return the running damage total
+     */
+    public int getDamageContribution() {
+        return damageContribution;
+    }
+
+    /**
+     * Returns the health restored to the boss by every part in the tree on each growth step.
+     *
+     * @return the running heal sum
+     */
+    public int getHealContribution() {
+        return healContribution;
+    }
+
+    /**
+     * Writes how many productive branches, dormant branches and leaves the tree holds.
+     * The contributions are not written, as they follow from those counts.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeCount(productiveBranches);
+        out.writeCount(dormantBranches);
+        out.writeCount(leaves);
+    }
+
+    /**
+     * Replaces the parts of this tree with those read from a snapshot, and recomputes
+     * the contributions from them.
+     *
+     * @param in the reader to read from
+     * @throws IllegalArgumentException if the snapshot holds more parts than this tree allows
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        int productive = in.readCount();
+        int dormant = in.readCount();
+        int leafCount = in.readCount();
+        if (productive + dormant + leafCount > maxParts) {
+            throw new IllegalArgumentException("Snapshot has more than " + maxParts + " parts");
+        }
+        productiveBranches = 0;
+        dormantBranches = 0;
+        leaves = 0;
+        damageContribution = 0;
+        healContribution = 0;
+        for (int i = 0; i < productive + dormant; i++) {
+            addBranch();
+        }
+        productiveBranches = productive;
+        dormantBranches = dormant;
+        for (int i = 0; i < leafCount; i++) {
+            addLeaf();
+        }
+    }
+}
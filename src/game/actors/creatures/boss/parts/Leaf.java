@@ -1,8 +1,5 @@
 package game.actors.creatures.boss.parts;
 
-import edu.monash.fit2099.engine.actors.Actor;
-import java.util.List;
-
 /**
  * Represents a leaf part of a boss.
  * A Leaf contributes a small amount to the boss's damage and provides a healing effect to the boss
@@ -24,16 +21,12 @@ public class Leaf implements BossPart {
     }
 
     /**
-     * Executes the "growth" logic for this leaf.
-     * Instead of growing new parts, a Leaf heals the main body of the boss.
+     * Gets the amount this leaf heals the main body of the boss whenever the boss grows.
      *
-     * @param actor       The main body of the boss to be healed.
-     * @param directParts The list of parts attached to the boss (not modified by this method).
-     * @return A string describing the healing effect.
+     * @return The fixed heal value of 5.
      */
     @Override
-    public String grow(Actor actor, List<BossPart> directParts) {
-        actor.heal(5);
-        return actor + "is healed\n";
+    public int getHealContribution() {
+        return 5;
     }
-}
\ No newline at end of file
+}
@@ -5,7 +5,6 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * An {@link Action} that allows an {@link Actor} to listen to an {@link Npc} and possibly hear a
@@ -57,7 +56,7 @@ public class ListenAction extends Action {
             }
         }
         if (!availableMonologues.isEmpty()) {
-            int randomIndex = new Random().nextInt(availableMonologues.size());
+            int randomIndex = actor.getRandom().nextInt(availableMonologues.size());
             return availableMonologues.get(randomIndex).getMessage();
         }
         return "It says nothing..."; // Default if no suitable monologue
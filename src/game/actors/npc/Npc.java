@@ -12,6 +12,7 @@ import game.buying.MerchantOffer;
 import game.buying.PurchaseAction;
 import game.capabilities.GeneralCapability;
 import game.weapons.actions.AttackAction;
+import game.weapons.actions.AttackActions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,17 @@ public abstract class Npc extends Actor implements Speakable {
      */
     protected final List<MerchantOffer> offers = new ArrayList<>();
 
+    /**
+     * The action planned ahead of this turn by {@link #planTurn(GameMap)}, while the turn is
+     * being played. Null otherwise, or if the NPC is deciding during its turn.
+     */
+    private Action plannedAction;
+
+    /**
+     * The attacks on this NPC, kept so the same ones can be offered every turn.
+     */
+    private final AttackActions attackActions = new AttackActions(this);
+
     /**
      * Constructor for an NPC. Initializes the NPC with a name, display character, and hit points.
      * Adds a default {@link WanderBehaviour} with a low priority.
@@ -86,7 +98,7 @@ public abstract class Npc extends Actor implements Speakable {
         }
 
         if (otherActor.hasCapability(GeneralCapability.HOSTILE_TO_ENEMY)) {
-            actions.add(new AttackAction(this, direction));
+            actions.add(attackActions.from(direction));
         }
         return actions;
     }
@@ -107,15 +119,54 @@ public abstract class Npc extends Actor implements Speakable {
      */
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+        Action action = plannedAction != null ? plannedAction : planTurn(map);
+        if (action != null) {
+            return action;
+        }
+        // If no behaviour returned an action
+        return DoNothingAction.INSTANCE;
+    }
+
+    /**
+     * Chooses an action from the NPC's behaviours, in order of priority. Behaviours only look at
+     * the map, so this can be done ahead of the turn, alongside other actors.
+     *
+     * @param map the map the actor is on
+     * @return the action of the first behaviour that returns one, or null if none does
+     */
+    @Override
+    public Action planTurn(GameMap map) {
         // TreeMap iterates keys in natural order (ascending), so lower numbers (higher priority) come first.
         for (Behaviour behaviour : behaviours.values()) {
-            Action action = behaviour.getAction(this, map);
+            Action action = Behaviour.actionFrom(behaviour, this, map);
             if (action != null) {
                 return action;
             }
         }
-        // If no behaviour returned an action
-        return new DoNothingAction();
+        return null;
+    }
+
+    /**
+     * Plays the turn with an action planned by {@link #planTurn(GameMap)}, through
+     * {@link #playTurn(ActionList, Action, GameMap, Display)} so that subclasses overriding it
+     * still take part.
+     *
+     * @param plan       the action planned for this turn
+     * @param actions    the list of possible actions
+     * @param lastAction the action the actor did last turn
+     * @param map        the map the actor is on
+     * @param display    the I/O object to which messages may be written
+     * @return the action to perform this turn
+     */
+    @Override
+    public Action playTurn(Action plan, ActionList actions, Action lastAction, GameMap map,
+            Display display) {
+        plannedAction = plan;
+        try {
+            return playTurn(actions, lastAction, map, display);
+        } finally {
+            plannedAction = null;
+        }
     }
 
     /**
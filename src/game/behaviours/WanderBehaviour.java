@@ -7,7 +7,6 @@ import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * A behaviour that allows an Actor to wander randomly around the map. It selects a random valid
@@ -19,11 +18,6 @@ import java.util.Random;
  */
 public class WanderBehaviour implements Behaviour {
 
-    /**
-     * Random number generator for selecting exits.
-     */
-    private final Random random = new Random();
-
     /**
      * Returns a MoveAction to wander to a random adjacent location, if possible. It checks all
      * exits from the actor's current location. If an exit leads to a location the actor can enter,
@@ -52,7 +46,7 @@ public class WanderBehaviour implements Behaviour {
 
         // If there are possible move actions, choose one randomly
         if (!actions.isEmpty()) {
-            return actions.get(random.nextInt(actions.size()));
+            return actions.get(actor.getRandom().nextInt(actions.size()));
         }
         // Otherwise, no action can be taken
         else {
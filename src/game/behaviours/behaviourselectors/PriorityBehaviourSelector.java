@@ -24,7 +24,7 @@ public class PriorityBehaviourSelector implements BehaviourSelector {
     @Override
     public Action selectBehaviour(Map<Integer, Behaviour> behaviours, Actor actor, GameMap map) {
         for (Behaviour behaviour : behaviours.values()) {
-            Action action = behaviour.getAction(actor, map);
+            Action action = Behaviour.actionFrom(behaviour, actor, map);
             if (action != null) {
                 return action; // Return first valid action found
             }
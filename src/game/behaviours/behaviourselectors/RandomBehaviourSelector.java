@@ -7,7 +7,6 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * A behaviour selector that randomly picks one behaviour to try. If the selected behaviour is not
@@ -15,13 +14,11 @@ import java.util.Random;
  */
 public class RandomBehaviourSelector implements BehaviourSelector {
 
-    private final Random random;
-
     /**
-     * Constructor for RandomBehaviourSelector.
+     * Constructor for RandomBehaviourSelector. The choice is drawn from the acting actor's own
+     * random stream, so one selector can be shared between several creatures.
      */
     public RandomBehaviourSelector() {
-        this.random = new Random();
     }
 
     /**
@@ -43,10 +40,10 @@ public class RandomBehaviourSelector implements BehaviourSelector {
         List<Behaviour> behaviourList = new ArrayList<>(behaviours.values());
 
         // Randomly select one behaviour
-        int randomIndex = random.nextInt(behaviourList.size());
+        int randomIndex = actor.getRandom().nextInt(behaviourList.size());
         Behaviour selectedBehaviour = behaviourList.get(randomIndex);
 
         // Try the selected behaviour - if invalid, return null (do nothing)
-        return selectedBehaviour.getAction(actor, map);
+        return Behaviour.actionFrom(selectedBehaviour, actor, map);
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package game.conditions;
+
+import edu.monash.fit2099.engine.events.EventBus;
+import edu.monash.fit2099.engine.events.GroundChangedEvent;
+import edu.monash.fit2099.engine.events.ItemAddedEvent;
+import edu.monash.fit2099.engine.events.ItemRemovedEvent;
+import edu.monash.fit2099.engine.events.Subscription;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Counts, for every {@link Location} on one {@link GameMap}, how many things lying there (its
+ * Ground and the Items on it) have a particular capability.
+ * <p>
+ * The map is scanned once, when the counts are first asked for, and then kept up to date from
+ * the ground and item events on the map's {@link EventBus}, so {@link #at(Location)} is one
+ * array read. Capabilities that Ground or Items gain or lose while lying on the map are not
+ * seen; in this game they only have the ones they are created with. Actors move and change far
+ * more often, so they are not counted here.
+ * <p>
+ * The counts only hold their map weakly, so they do not keep a map alive once the game is done
+ * with it. Their listeners are cancelled when the map is gone, or when the map moves to another
+ * World's bus and new counts replace them.
+ */
+final class CapabilityCounts {
+
+    /**
+     * The counts made so far, by map and capability. An entry goes once its map is no longer
+     * used. Guarded by itself.
+     */
+    private static final Map<GameMap, Map<Enum<?>, CapabilityCounts>> ALL = new WeakHashMap<>();
+
+    private final WeakReference<GameMap> map;
+    private final Enum<?> capability;
+    private final EventBus events;
+    private final int width;
+    private final int[] counts;
+    private final List<Subscription> subscriptions = new ArrayList<>(3);
+
+    private CapabilityCounts(GameMap map, Enum<?> capability) {
+        this.map = new WeakReference<>(map);
+        this.capability = capability;
+        this.events = map.getEventBus();
+        this.width = map.getXRange().max() + 1;
+        this.counts = new int[width * (map.getYRange().max() + 1)];
+
+        subscriptions.add(events.subscribe(GroundChangedEvent.class, event -> {
+            if (isOn(event.getLocation())) {
+                int change = 0;
+                if (event.getPrevious() != null && event.getPrevious().hasCapability(capability))
+                    change--;
+                if (event.getCurrent().hasCapability(capability))
+                    change++;
+                counts[indexOf(event.getLocation())] += change;
+            }
+        }));
+        subscriptions.add(events.subscribe(ItemAddedEvent.class, event -> {
+            if (isOn(event.getLocation()) && event.getItem().hasCapability(capability))
+                counts[indexOf(event.getLocation())]++;
+        }));
+        subscriptions.add(events.subscribe(ItemRemovedEvent.class, event -> {
+            if (isOn(event.getLocation()) && event.getItem().hasCapability(capability))
+                counts[indexOf(event.getLocation())]--;
+        }));
+
+        for (int x : map.getXRange()) {
+            for (int y : map.getYRange()) {
+                Location location = map.at(x, y);
+                int count = location.getGround().hasCapability(capability) ? 1 : 0;
+                for (Item item : location.getItems()) {
+                    if (item.hasCapability(capability))
+                        count++;
+                }
+                counts[indexOf(location)] = count;
+            }
+        }
+    }
+
+    /**
+     * Get the counts of a capability on a map, making them the first time they are asked for.
+     *
+     * @param map        the map
+     * @param capability the capability to count
+     * @return the counts, or null if the map is streamed, as counting it would load all of it
+     */
+    static CapabilityCounts of(GameMap map, Enum<?> capability) {
+        if (map.isStreamed())
+            return null;
+        synchronized (ALL) {
+            Map<Enum<?>, CapabilityCounts> byCapability = ALL.computeIfAbsent(map, m -> new HashMap<>());
+            CapabilityCounts counts = byCapability.get(capability);
+            // A map added to a World after being counted publishes on the World's bus instead
+            if (counts == null || counts.events != map.getEventBus()) {
+                if (counts != null)
+                    counts.cancel();
+                counts = new CapabilityCounts(map, capability);
+                byCapability.put(capability, counts);
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * @param location a Location on this map
+     * @return how many of the Ground and Items there have the capability
+     */
+    int at(Location location) {
+        return counts[indexOf(location)];
+    }
+
+    /**
+     * Returns true if an event's Location is on this map. Once the map is gone, the listeners
+     * are cancelled instead.
+     */
+    private boolean isOn(Location location) {
+        GameMap counted = map.get();
+        if (counted == null) {
+            cancel();
+            return false;
+        }
+        return location.map() == counted;
+    }
+
+    /**
+     * Stop keeping these counts up to date.
+     */
+    private void cancel() {
+        for (Subscription subscription : subscriptions)
+            subscription.cancel();
+    }
+
+    private int indexOf(Location location) {
+        return location.y() * width + location.x();
+    }
+
+    @Override
+    public String toString() {
+        return capability + " on " + map.get();
+    }
+}
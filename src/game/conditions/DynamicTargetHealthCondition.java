@@ -34,8 +34,7 @@ public class DynamicTargetHealthCondition implements Condition {
     @Override
     public boolean check() {
         if (this.target != null && this.target.hasAttribute(BaseActorAttributes.HEALTH)) {
-            Integer targetHp = this.target.getAttribute(BaseActorAttributes.HEALTH);
-            return targetHp != null && targetHp > this.healthThreshold;
+            return this.target.getAttributeAsInt(BaseActorAttributes.HEALTH) > this.healthThreshold;
         }
         return false;
     }
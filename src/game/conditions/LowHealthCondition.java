@@ -40,19 +40,16 @@ public class LowHealthCondition implements Condition {
      * threshold.
      *
      * @return {@code true} if the actor's current health (obtained via
-     * {@link Actor#getAttribute(Enum)} with {@link BaseActorAttributes#HEALTH}) is less than
+     * {@link Actor#getAttributeAsInt(Enum)} with {@link BaseActorAttributes#HEALTH}) is less than
      * {@value #LOW_HEALTH}, {@code false} otherwise. Returns {@code false} if the actor does not
-     * have a health attribute or if its value is null.
+     * have a health attribute.
      */
     @Override
     public boolean check() {
-        // It's safer to check if the attribute exists and is not null
+        // It's safer to check if the attribute exists
         if (actor.hasAttribute(BaseActorAttributes.HEALTH)) {
-            Integer currentHealth = actor.getAttribute(BaseActorAttributes.HEALTH);
-            if (currentHealth != null) {
-                return currentHealth < LOW_HEALTH;
-            }
+            return actor.getAttributeAsInt(BaseActorAttributes.HEALTH) < LOW_HEALTH;
         }
-        return false; // If no health attribute or it's null, condition is not met.
+        return false; // If no health attribute, condition is not met.
     }
 }
@@ -4,7 +4,6 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.Location;
-import java.util.ArrayList;
 
 
 /**
@@ -56,6 +55,9 @@ public class NearbyCapabilityCondition implements Condition {
      * <li>If there is an {@link Actor} at the location, whether that actor has the capability.</li>
      * <li>For every {@link Item} on the ground at the location, whether that item has the capability.</li>
      * </ol>
+     * Grounds and items on the center's map are not looked at one by one: a
+     * {@link CapabilityCounts} for the map, kept up to date from its events, says how many
+     * there are at each location. Streamed maps are not counted, and are looked at directly.
      * The method returns {@code true} as soon as the first entity with the capability is found.
      * If no such entity is found after checking all relevant locations and entities,
      * it returns {@code false}.
@@ -65,35 +67,45 @@ public class NearbyCapabilityCondition implements Condition {
      */
     @Override
     public boolean check() {
-        // Create a list of locations to check: the center and all its direct exits
-        ArrayList<Location> locationsToCheck = new ArrayList<>();
-        locationsToCheck.add(centerLocation);
+        // Ground and items on the centre's own map are counted ahead of time
+        CapabilityCounts counts = CapabilityCounts.of(centerLocation.map(), capability);
+        if (isFound(centerLocation, counts)) {
+            return true;
+        }
         for (Exit exit : centerLocation.getExits()) {
-            locationsToCheck.add(exit.getDestination());
+            if (isFound(exit.getDestination(), counts)) {
+                return true;
+            }
         }
+        // If the capability was not found in any entity at any of the checked locations
+        return false;
+    }
 
-        // Iterate through each location to check for the capability
-        for (Location location : locationsToCheck) {
-            // Check ground
-            if (location.getGround().hasCapability(capability)) {
+    /**
+     * Checks a single location for an entity with the {@link #capability}.
+     *
+     * @param location the location to check
+     * @param counts   the counts for the centre's map, or null if it has none
+     * @return {@code true} if the ground, the actor or any item there has the capability
+     */
+    private boolean isFound(Location location, CapabilityCounts counts) {
+        // Check ground and items, by their counts if the location is on the centre's map
+        if (counts != null && location.map() == centerLocation.map()) {
+            if (counts.at(location) > 0) {
                 return true;
             }
-            // Check an actor, if present
-            if (location.containsAnActor()) {
-                Actor actorAtLocation = location.getActor();
-                if (actorAtLocation != null && actorAtLocation.hasCapability(capability)) {
-                    return true;
-                }
+        } else {
+            if (location.getGround().hasCapability(capability)) {
+                return true;
             }
-            // Check items on the ground
             for (Item item : location.getItems()) {
                 if (item.hasCapability(capability)) {
                     return true;
                 }
             }
         }
-        // If the capability was not found in any entity at any of the checked locations
-        return false;
+        // Check an actor, if present
+        Actor actorAtLocation = location.getActor();
+        return actorAtLocation != null && actorAtLocation.hasCapability(capability);
     }
 }
-
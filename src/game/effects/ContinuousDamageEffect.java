@@ -4,6 +4,8 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.StatusEffect;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 
 /**
  * A reusable {@link StatusEffect} that inflicts a set amount of damage to an actor each turn for a specified duration.
@@ -67,4 +69,33 @@ public class ContinuousDamageEffect extends StatusEffect {
             actor.removeStatusEffect(this);
         }
     }
+
+    /**
+     * Returns the amount of damage inflicted each turn.
+     *
+     * @return the damage per turn
+     */
+    public int getDamagePerTurn() {
+        return damagePerTurn;
+    }
+
+    /**
+     * Writes the remaining duration of this effect to a snapshot.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        out.writeInt(duration);
+    }
+
+    /**
+     * Restores the remaining duration of this effect from a snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        duration = in.readInt();
+    }
 }
\ No newline at end of file
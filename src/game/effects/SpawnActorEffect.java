@@ -5,7 +5,6 @@ import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.function.Supplier;
 
 /**
@@ -85,7 +84,6 @@ public class SpawnActorEffect implements Effect {
         }
 
         ArrayList<Location> validSpawnLocations = new ArrayList<>();
-        Random random = new Random();
         Actor newActorInstanceForCheck = actorSupplier.get(); // Get an instance to check canActorEnter
 
         // Find all valid adjacent locations for spawning
@@ -100,7 +98,7 @@ public class SpawnActorEffect implements Effect {
 
         // If there are valid locations, pick one randomly and spawn the actor
         if (!validSpawnLocations.isEmpty()) {
-            int randomIndex = random.nextInt(validSpawnLocations.size());
+            int randomIndex = actor.getRandom().nextInt(validSpawnLocations.size());
             Location spawnLocation = validSpawnLocations.get(randomIndex);
             // A new instance is created here to ensure a fresh actor is added
             map.addActor(actorSupplier.get(), spawnLocation);
@@ -6,6 +6,7 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.SharedGrounds;
 import game.grounds.Soil;
 
 /**
@@ -39,7 +40,7 @@ public class DigAction extends Action {
     public DigAction(Item digItem, Location digLocation) {
         this.digItem = digItem;
         this.digLocation = digLocation;
-        this.newGround = new Soil();
+        this.newGround = SharedGrounds.get(Soil.class);
 
     }
 
@@ -6,7 +6,6 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * An Action that allows an Actor to fish in a Pond.
@@ -27,10 +26,6 @@ public class FishAction extends Action {
      * The location of the pond.
      */
     private final Location pondLocation;
-    /**
-     * A random number generator to determine the outcome of the fishing attempt.
-     */
-    private final Random random = new Random();
 
     /**
      * Constructor for FishAction.
@@ -60,7 +55,7 @@ public class FishAction extends Action {
         ArrayList<Fishable> potentialCatches = new ArrayList<>();
         // Roll for each fishable item independently
         for (Fishable fishableItem : fishableItems) {
-            if (random.nextDouble() < fishableItem.getCatchChance()) {
+            if (actor.getRandom().nextDouble() < fishableItem.getCatchChance()) {
                 potentialCatches.add(fishableItem);
             }
         }
@@ -69,7 +64,7 @@ public class FishAction extends Action {
             return "You are unlucky! Nothing was caught...";
         } else {
             // If there are potential catches, pick one at random from the list.
-            Fishable caughtItem = potentialCatches.get(random.nextInt(potentialCatches.size()));
+            Fishable caughtItem = potentialCatches.get(actor.getRandom().nextInt(potentialCatches.size()));
 
             // Add the single, randomly selected caught item to the actor's inventory.
             return caughtItem.catchBy(actor);
@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.StatefulGround;
 import game.capabilities.GeneralCapability;
 import java.util.ArrayList;
 
@@ -13,7 +14,7 @@ import java.util.ArrayList;
  * It contains a variety of {@link Fishable} items that can be caught.
  * Actors cannot enter the pond.
  */
-public class Pond extends Ground {
+public class Pond extends Ground implements StatefulGround {
 
     /**
      * A list of items that can be caught by fishing in this pond.
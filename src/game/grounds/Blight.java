@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.SharedGrounds;
 import game.capabilities.GeneralCapability;
 import game.healing.Curable;
 import game.healing.CureAction;
@@ -54,7 +55,7 @@ public class Blight extends Ground implements Curable {
      */
     @Override
     public String cure(Actor healer, Location cureLocation, Item healingItem) {
-        cureLocation.setGround(new Soil());
+        cureLocation.setGround(SharedGrounds.get(Soil.class));
         return "Blight has been converted by " + healingItem + " at " + cureLocation + ".";
     }
 
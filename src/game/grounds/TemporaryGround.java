@@ -1,7 +1,11 @@
 package game.grounds;
 
+import edu.monash.fit2099.engine.positions.CatchUp;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.StatefulGround;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 
 /**
  * A wrapper class that allows a type of Ground to exist temporarily at a location.
@@ -14,7 +18,7 @@ import edu.monash.fit2099.engine.positions.Location;
  *
  * @see Ground
  */
-public class TemporaryGround extends Ground {
+public class TemporaryGround extends Ground implements StatefulGround, CatchUp {
     /**
      * The original ground that the location will revert to after the effect ends.
      */
@@ -70,4 +74,62 @@ public class TemporaryGround extends Ground {
             }
         }
     }
+
+    /**
+     * Counts down the turns missed while the map was dormant, reverting to the original ground
+     * if the effect has run out. The temporary ground's own per-turn effects are not replayed.
+     *
+     * @param location The location of the TemporaryGround instance.
+     * @param turns    The number of turns missed.
+     */
+    @Override
+    public void catchUp(Location location, int turns) {
+        if (this.duration > 0) {
+            this.duration -= Math.min(turns, this.duration);
+            if (this.duration <= 0) {
+                location.setGround(this.originalGround);
+            }
+        }
+    }
+
+    /**
+     * Returns the ground that the location will revert to when the duration expires.
+     *
+     * @return the original ground
+     */
+    public Ground getOriginalGround() {
+        return originalGround;
+    }
+
+    /**
+     * Returns the ground that is active while this effect lasts.
+     *
+     * @return the temporary ground
+     */
+    public Ground getTemporaryGround() {
+        return temporaryground;
+    }
+
+    /**
+     * Writes this ground's state and its remaining duration to a snapshot.
+     * The original and temporary grounds are written by the codec that builds this object.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeInt(this.duration);
+    }
+
+    /**
+     * Restores this ground's state and its remaining duration from a snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        this.duration = in.readInt();
+    }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package game.growingparts;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
@@ -42,12 +41,9 @@ public class GrowPartBehaviour implements Behaviour {
 
         Location currentLocation = map.locationOf(actor);
 
-        for (Exit exit : currentLocation.getExits()) {
-            Location destination = exit.getDestination();
-
-            if (destination.containsAnActor()) {
-                return null;
-            }
+        // The actor itself is always found, so anyone else means a neighbour is present
+        if (map.actorsWithin(currentLocation, 1).size() > 1) {
+            return null;
         }
         // No target found, decide to grow
         return new GrowPartAction(grower);
@@ -3,6 +3,7 @@ package game.hatching;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.CatchUp;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
@@ -10,7 +11,6 @@ import game.capabilities.GeneralCapability;
 import game.eating.EatAction;
 import game.eating.Eatable;
 import java.util.ArrayList;
-import java.util.Random;
 
 
 /**
@@ -23,7 +23,7 @@ import java.util.Random;
  * location, and the new creature is placed at a suitable nearby spot.
  * </p>
  */
-public abstract class Egg extends Item implements Eatable {
+public abstract class Egg extends Item implements Eatable, CatchUp {
 
     /**
      * The default display character for all egg items on the map.
@@ -91,7 +91,6 @@ public abstract class Egg extends Item implements Eatable {
      */
     public Location tryProduce(Location currentLocation, Actor actor) {
         ArrayList<Location> locations = new ArrayList<>();
-        Random random = new Random();
 
         // Check the egg's current location first
         if (currentLocation.canActorEnter(actor)) {
@@ -106,7 +105,7 @@ public abstract class Egg extends Item implements Eatable {
         }
 
         if (!locations.isEmpty()) {
-            int randomIndex = random.nextInt(locations.size());
+            int randomIndex = currentLocation.map().getRandom().nextInt(locations.size());
             return locations.get(randomIndex);
         }
         return null; // No suitable location found
@@ -133,6 +132,18 @@ public abstract class Egg extends Item implements Eatable {
         }
     }
 
+    /**
+     * Called when the map this egg lies on wakes from dormancy. Hatching conditions only
+     * depend on what is around the egg now, so one attempt makes up for every turn missed.
+     *
+     * @param currentLocation The current {@link Location} of this egg on the map.
+     * @param turns           The number of turns missed.
+     */
+    @Override
+    public void catchUp(Location currentLocation, int turns) {
+        tick(currentLocation);
+    }
+
     /**
      * Returns a list of allowable actions that the owner can perform with this Egg. If the owner
      * has the {@link GeneralCapability#CONSUMER} capability, an {@link EatAction} is added to allow
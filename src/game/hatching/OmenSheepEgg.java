@@ -5,6 +5,8 @@ import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.actors.creatures.OmenSheep;
 import game.conditions.TurnBasedCondition;
 import java.util.ArrayList;
@@ -74,6 +76,19 @@ public class OmenSheepEgg extends Egg {
         super.tick(currentLocation); // Handles the hatching logic
     }
 
+    /**
+     * Called when the map this egg lies on wakes from dormancy. Counts the missed turns as
+     * turns on the ground, then makes one hatching attempt.
+     *
+     * @param currentLocation The current {@link Location} of this egg on the map.
+     * @param turns           The number of turns missed.
+     */
+    @Override
+    public void catchUp(Location currentLocation, int turns) {
+        turnOnGround += turns - 1; // tick adds the last one
+        super.catchUp(currentLocation, turns);
+    }
+
     /**
      * Called once per turn when the egg is carried by an actor. If the egg is in an actor's
      * inventory, its {@link #turnOnGround} counter is reset to 0, as the hatching condition is
@@ -124,4 +139,28 @@ public class OmenSheepEgg extends Egg {
     public String getEatMenuDescription(Actor actor) {
         return actor.toString() + " eats " + this + " (Max HP +" + MAX_HEALTH_BOOST + ")";
     }
+
+    /**
+     * Writes the egg's item state and the number of turns it has spent on the ground to a
+     * snapshot.
+     *
+     * @param out The writer to write to.
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeCount(turnOnGround);
+    }
+
+    /**
+     * Restores the egg's item state and the number of turns it has spent on the ground from a
+     * snapshot.
+     *
+     * @param in The reader to read from.
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        turnOnGround = in.readCount();
+    }
 }
\ No newline at end of file
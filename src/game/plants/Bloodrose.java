@@ -7,6 +7,7 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.SharedGrounds;
 import game.capabilities.GeneralCapability;
 import game.fishing.DigAction;
 import game.grounds.Blight;
@@ -105,7 +106,7 @@ public class Bloodrose extends Plant {
         ActionList actions = new ActionList();
         for (Item item : actor.getItemInventory()) {
             if (item.hasCapability(GeneralCapability.CAN_DIG)) {
-                actions.add(new DigAction(item,location, new Blight()));
+                actions.add(new DigAction(item,location, SharedGrounds.get(Blight.class)));
             }
         }
         return actions;
@@ -8,6 +8,7 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.SharedGrounds;
 import game.capabilities.GeneralCapability;
 import game.fishing.DigAction;
 import game.grounds.GroundCapability;
@@ -62,7 +63,7 @@ public class Inheritree extends Plant {
             Ground adjacentGround = adjacentLocation.getGround();
             // If the adjacent ground is cursed...
             if (adjacentGround.hasCapability(GroundCapability.CURSED)) {
-                adjacentLocation.setGround(new Soil()); // ...replace it with Soil
+                adjacentLocation.setGround(SharedGrounds.get(Soil.class)); // ...replace it with Soil
                 curedCount++; // Increment the counter
             }
         }
@@ -115,7 +116,7 @@ public class Inheritree extends Plant {
         ActionList actions = new ActionList();
         for (Item item : actor.getItemInventory()) {
             if (item.hasCapability(GeneralCapability.CAN_DIG)) {
-                actions.add(new DigAction(item,location, new Soil()));
+                actions.add(new DigAction(item,location, SharedGrounds.get(Soil.class)));
             }
         }
         return actions;
@@ -120,8 +120,8 @@ public class FireSpell extends SpellBook {
         Location ownerLocation = map.locationOf(caster);
 
         // Check surrounding tiles for any actor that isn't the caster
-        for (Exit exit : ownerLocation.getExits()) {
-            if (exit.getDestination().containsAnActor() && exit.getDestination().getActor() != caster) {
+        for (Actor other : map.actorsWithin(ownerLocation, 1)) {
+            if (other != caster) {
                 enemyNearby = true;
                 break; // Found an enemy, no need to check further.
             }
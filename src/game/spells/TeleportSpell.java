@@ -4,11 +4,11 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.NumberRange;
 import game.teleport.TeleportAction;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * A SpellBook that allows the caster to teleport to a random location.
@@ -38,11 +38,6 @@ public class TeleportSpell extends SpellBook {
      */
     private static final String DESCRIPTION = "Teleports the caster to a random valid location on the current map.";
 
-    /**
-     * A static random number generator to select a random teleport location.
-     */
-    private static final Random random = new Random();
-
     /**
      * Constructor for the TeleportSpell.
      * Initializes the spell with its predefined name, display character, mana cost, and description.
@@ -73,8 +68,10 @@ public class TeleportSpell extends SpellBook {
 
         // Find all possible locations the actor can teleport to.
         List<Location> validTeleportLocations = new ArrayList<>();
-        for (int y : currentMap.getYRange()) {
-            for (int x : currentMap.getXRange()) {
+        NumberRange xs = currentMap.getXRange();
+        NumberRange ys = currentMap.getYRange();
+        for (int y = ys.min(); y <= ys.max(); y++) {
+            for (int x = xs.min(); x <= xs.max(); x++) {
                 Location potentialLocation = currentMap.at(x, y);
                 // A location is valid if it's not the current spot and the actor can enter it.
                 if (potentialLocation != currentLocation && potentialLocation.canActorEnter(target)) {
@@ -88,7 +85,7 @@ public class TeleportSpell extends SpellBook {
         }
 
         // Pick a random destination from the list of valid locations.
-        Location randomDestinationLocation = validTeleportLocations.get(random.nextInt(validTeleportLocations.size()));
+        Location randomDestinationLocation = validTeleportLocations.get(caster.getRandom().nextInt(validTeleportLocations.size()));
 
         // Create and execute a TeleportAction to move the actor.
         TeleportAction internalTeleportAction = new TeleportAction(randomDestinationLocation);
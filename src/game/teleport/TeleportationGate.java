@@ -2,17 +2,25 @@ package game.teleport;
 
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.MapGateway;
+import edu.monash.fit2099.engine.positions.StatefulGround;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.capabilities.GeneralCapability;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A teleportation gate that allows actors to travel between different maps.
  * The gate is represented by the character 'A' and can have multiple destinations.
  */
-public class TeleportationGate extends Ground {
+public class TeleportationGate extends Ground implements StatefulGround, MapGateway {
     private final List<Location> locations;
 
     /**
@@ -74,6 +82,21 @@ public class TeleportationGate extends Ground {
                 currentLocation.y() == targetLocation.y();
     }
 
+    /**
+     * Returns the maps this gate's destinations are on, so that they are kept awake while
+     * someone stands on the gate.
+     *
+     * @return the destination maps, without repeats
+     */
+    @Override
+    public Collection<GameMap> getLinkedMaps() {
+        Set<GameMap> maps = new LinkedHashSet<>();
+        for (Location location : locations) {
+            maps.add(location.map());
+        }
+        return maps;
+    }
+
     /**
      * Check if actors can enter this teleportation gate.
      * Teleportation gates allow actors to step on them.
@@ -85,4 +108,33 @@ public class TeleportationGate extends Ground {
     public boolean canActorEnter(Actor actor) {
         return true;
     }
+
+    /**
+     * Writes the gate's ground state and its destinations to a snapshot.
+     *
+     * @param out the writer to write to
+     */
+    @Override
+    public void writeSnapshot(SnapshotWriter out) {
+        super.writeSnapshot(out);
+        out.writeCount(locations.size());
+        for (Location location : locations) {
+            out.writeLocation(location);
+        }
+    }
+
+    /**
+     * Restores the gate's ground state and its destinations from a snapshot.
+     *
+     * @param in the reader to read from
+     */
+    @Override
+    public void readSnapshot(SnapshotReader in) {
+        super.readSnapshot(in);
+        locations.clear();
+        int count = in.readCount();
+        for (int i = 0; i < count; i++) {
+            locations.add(in.readLocation());
+        }
+    }
 }
\ No newline at end of file
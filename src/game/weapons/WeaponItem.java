@@ -7,7 +7,6 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.Weapon;
 import game.weapons.actions.AttackAction;
-import java.util.Random;
 
 /**
  * An abstract class representing items that can be used as a weapon.
@@ -86,8 +85,7 @@ public abstract class WeaponItem extends Item implements Weapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
-        if (!(rand.nextInt(100) < this.hitRate)) {
+        if (!(attacker.getRandom().nextInt(100) < this.hitRate)) {
             return attacker + " misses " + target + ".";
         }
 
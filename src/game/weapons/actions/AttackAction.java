@@ -3,6 +3,7 @@ package game.weapons.actions;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.Weapon;
 
 /**
@@ -11,6 +12,8 @@ import edu.monash.fit2099.engine.weapons.Weapon;
  * or the attacker's intrinsic weapon (if no specific weapon is provided).
  * It handles the execution of the attack via the weapon's logic and processes
  * the target becoming unconscious if their health drops to zero or below.
+ * An AttackAction never changes once made, so the same one can be offered turn after turn;
+ * see {@link AttackActions}.
  * <p>
  * Created by the FIT2099 Teaching Team.
  * @author Adrian Kristanto
@@ -33,7 +36,7 @@ public class AttackAction extends Action {
      * The {@link Weapon} used for this specific attack instance.
      * If null, the attacker's intrinsic weapon will be used during execution.
      */
-    private Weapon weapon;
+    private final Weapon weapon;
 
     /**
      * Constructor for an AttackAction using a specific weapon.
@@ -58,7 +61,7 @@ public class AttackAction extends Action {
     public AttackAction(Actor target, String direction) {
         this.target = target;
         this.direction = direction;
-        // weapon is implicitly null, will use intrinsic weapon in execute()
+        this.weapon = null; // use the attacker's intrinsic weapon in execute()
     }
 
     /**
@@ -80,12 +83,10 @@ public class AttackAction extends Action {
     @Override
     public String execute(Actor actor, GameMap map) {
         // Use intrinsic weapon if no specific weapon was provided in the constructor
-        if (weapon == null) {
-            weapon = actor.getIntrinsicWeapon();
-        }
+        Weapon attackWith = weapon != null ? weapon : actor.getIntrinsicWeapon();
 
         // Delegate attack logic to the weapon
-        String result = weapon.attack(actor, target, map);
+        String result = attackWith.attack(actor, target, map);
 
         // Check if the target is unconscious after the attack
         if (!target.isConscious()) {
@@ -96,6 +97,24 @@ public class AttackAction extends Action {
         return result;
     }
 
+    /**
+     * A planned attack can no longer be made if the target has left the attacker's side, e.g.
+     * because it moved away or was defeated earlier in the turn.
+     *
+     * @param actor The actor performing the attack.
+     * @param map   The {@link GameMap} where the attack occurs.
+     * @return true if both are still on the map and the target is next to the attacker.
+     */
+    @Override
+    public boolean isStillValid(Actor actor, GameMap map) {
+        if (!map.contains(actor) || !map.contains(target)) {
+            return false;
+        }
+        Location here = map.locationOf(actor);
+        Location there = map.locationOf(target);
+        return Math.abs(here.x() - there.x()) <= 1 && Math.abs(here.y() - there.y()) <= 1;
+    }
+
 /**
      * Provides a description of the attack action suitable for display in a menu.
      * Specifies the attacker, target, and the weapon being used
@@ -0,0 +1,43 @@
+package game.weapons.actions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link AttackAction}s against one target with the attacker's intrinsic weapon, one for each
+ * direction they come from. Each is made the first time it is needed and handed out again after
+ * that, so offering an attack every turn does not allocate. An actor that can be attacked keeps
+ * one of these for itself.
+ */
+public class AttackActions {
+
+    /**
+     * The {@link Actor} the attacks are against.
+     */
+    private final Actor target;
+
+    /**
+     * The attacks made so far, by direction. Guarded by this object.
+     */
+    private final Map<String, AttackAction> byDirection = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param target The {@link Actor} the attacks are against.
+     */
+    public AttackActions(Actor target) {
+        this.target = target;
+    }
+
+    /**
+     * Returns the attack on the target from a direction, using the attacker's intrinsic weapon.
+     *
+     * @param direction The direction from which the attack originates (for display).
+     * @return The same {@link AttackAction} every time for the same direction.
+     */
+    public synchronized AttackAction from(String direction) {
+        return byDirection.computeIfAbsent(direction, key -> new AttackAction(target, key));
+    }
+}